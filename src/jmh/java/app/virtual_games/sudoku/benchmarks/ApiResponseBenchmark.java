@@ -0,0 +1,95 @@
+package app.virtual_games.sudoku.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import app.virtual_games.sudoku.controllers.ApiController;
+import app.virtual_games.sudoku.exceptions.ApiResponseException;
+import app.virtual_games.sudoku.models.ApiResponse;
+
+/**
+ * Benchmarks the Jackson parse of a sample sudoku API response: data binding into
+ * {@link ApiResponse} with a new {@link ObjectMapper} per parse and with a shared one, and the
+ * streaming parse into a preallocated grid that {@link ApiController} uses.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ApiResponseBenchmark
+{
+  private String responseBody;
+  private byte[] responseBytes;
+  private ObjectMapper sharedMapper;
+  private int[] grid;
+
+  /**
+   * Loads the sample response and initializes the shared mapper and the grid.
+   */
+  @Setup
+  public void setUp()
+  {
+    this.responseBody = PuzzleCorpus.getApiResponse();
+    this.responseBytes = this.responseBody.getBytes(StandardCharsets.UTF_8);
+    this.sharedMapper = new ObjectMapper();
+    this.grid = new int[81];
+  }
+
+  /**
+   * Parses the response with a new mapper.
+   *
+   * @return ApiResponse : parsed response
+   * @throws JsonProcessingException
+   */
+  @Benchmark
+  public ApiResponse parseWithNewMapper() throws JsonProcessingException
+  {
+    return new ObjectMapper().readValue(this.responseBody, ApiResponse.class);
+  }
+
+  /**
+   * Parses the response with the shared mapper.
+   *
+   * @return ApiResponse : parsed response
+   * @throws JsonProcessingException
+   */
+  @Benchmark
+  public ApiResponse parseWithSharedMapper() throws JsonProcessingException
+  {
+    return this.sharedMapper.readValue(this.responseBody, ApiResponse.class);
+  }
+
+  /**
+   * Streams the response bytes into the preallocated grid.
+   *
+   * @return int[] : parsed grid
+   * @throws IOException
+   * @throws ApiResponseException
+   */
+  @Benchmark
+  public int[] parseStreamingGrid() throws IOException, ApiResponseException
+  {
+    return ApiController.parseSudokuGrid(new ByteArrayInputStream(this.responseBytes), this.grid);
+  }
+}
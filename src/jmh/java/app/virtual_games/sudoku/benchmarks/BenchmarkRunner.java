@@ -0,0 +1,42 @@
+package app.virtual_games.sudoku.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the benchmark jar. Runs the selected benchmarks (all by default) with the GC
+ * profiler (i.e. {@code -prof gc} allocation rate) and writes the results to
+ * {@code target/jmh-result.json}, so runs can be compared commit by commit. Any standard JMH command line
+ * option still applies (e.g. {@code java -jar target/benchmarks.jar SolverBenchmark -p category=hard}).
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class BenchmarkRunner
+{
+  private static final String RESULT_FILE = "target/jmh-result.json";
+
+  private BenchmarkRunner()
+  {
+  }
+
+  /**
+   * Runs the benchmarks.
+   *
+   * @param args : JMH command line options
+   * @throws CommandLineOptionException
+   * @throws RunnerException
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException
+  {
+    var options = new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON).result(RESULT_FILE).build();
+
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,68 @@
+package app.virtual_games.sudoku.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import app.virtual_games.sudoku.controllers.SolutionController;
+import app.virtual_games.sudoku.solvers.LogicalSolver;
+
+/**
+ * Benchmarks the shared grader behind {@link SolutionController#gradePuzzle}. Each operation
+ * grades every corpus puzzle of the category once.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraderBenchmark
+{
+  private static final int BLOCK_SIZE = 3;
+
+  @Param({ "easy", "medium", "hard", "pathological" })
+  String category;
+
+  private List<int[]> puzzles;
+  private LogicalSolver grader;
+
+  /**
+   * Loads the corpus puzzles and the shared grader.
+   */
+  @Setup
+  public void setUp()
+  {
+    this.puzzles = PuzzleCorpus.getPuzzles(this.category);
+    this.grader = SolutionController.getGrader(BLOCK_SIZE);
+  }
+
+  /**
+   * Grades every puzzle of the category.
+   *
+   * @param blackhole : sink for the grades
+   */
+  @Benchmark
+  public void gradePuzzle(Blackhole blackhole)
+  {
+    for (int[] puzzle : this.puzzles)
+    {
+      blackhole.consume(this.grader.grade(puzzle));
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package app.virtual_games.sudoku.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import app.virtual_games.sudoku.controllers.SolutionController;
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+
+/**
+ * Benchmarks the board construction steps that don't involve the solver or JavaFX: scattering the
+ * initial cells into the flat initial puzzle, and rebuilding a {@link SudokuPuzzle} from already
+ * solved values (e.g. a puzzle bank record). Each operation covers every corpus puzzle of the
+ * category once, so the results are in microseconds.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InitialPuzzleBenchmark
+{
+  private static final int BLOCK_SIZE = 3;
+  private static final int PUZZLE_SIZE = BLOCK_SIZE * BLOCK_SIZE;
+
+  @Param({ "easy", "medium", "hard", "pathological" })
+  String category;
+
+  private List<int[]> puzzles;
+  private List<int[]> solvedPuzzles;
+  private List<List<Square>> initialCells;
+
+  /**
+   * Loads the corpus puzzles, their initial cells, and their solutions.
+   */
+  @Setup
+  public void setUp()
+  {
+    this.puzzles = PuzzleCorpus.getPuzzles(this.category);
+    this.solvedPuzzles = this.puzzles.stream().map(puzzle -> SolutionController.solvePuzzle(BLOCK_SIZE, puzzle))
+        .collect(Collectors.toList());
+    this.initialCells = this.puzzles.stream().map(PuzzleCorpus::toSquares).collect(Collectors.toList());
+  }
+
+  /**
+   * Builds the flat initial puzzle of every puzzle of the category.
+   *
+   * @param blackhole : sink for the initial puzzles
+   */
+  @Benchmark
+  public void buildInitialPuzzle(Blackhole blackhole)
+  {
+    for (List<Square> cells : this.initialCells)
+    {
+      blackhole.consume(SudokuPuzzle.buildInitialPuzzle(PUZZLE_SIZE, cells));
+    }
+  }
+
+  /**
+   * Rebuilds every puzzle of the category from its initial and solved values.
+   *
+   * @param blackhole : sink for the puzzles
+   */
+  @Benchmark
+  public void restoreSolvedPuzzle(Blackhole blackhole)
+  {
+    for (var puzzleIndex = 0; puzzleIndex < this.puzzles.size(); puzzleIndex++)
+    {
+      blackhole.consume(new SudokuPuzzle(BLOCK_SIZE, this.puzzles.get(puzzleIndex),
+          this.solvedPuzzles.get(puzzleIndex)));
+    }
+  }
+}
@@ -0,0 +1,110 @@
+package app.virtual_games.sudoku.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+
+/**
+ * Checked—in benchmark corpus of 9x9 puzzles grouped by category (i.e. easy, medium, hard, and
+ * pathological), plus a sample sudoku API response.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public final class PuzzleCorpus
+{
+  private static final String PUZZLES_PATH = "/corpus/puzzles.txt";
+  private static final String API_RESPONSE_PATH = "/corpus/api_response.json";
+  private static final int PUZZLE_SIZE = 9;
+
+  private PuzzleCorpus()
+  {
+  }
+
+  /**
+   * Retrieves the puzzles of the category.
+   *
+   * @param category : corpus category (e.g. hard)
+   * @return List<int[]> : list of flat arrays of initial sudoku values (0 —> empty cell)
+   */
+  public static List<int[]> getPuzzles(String category)
+  {
+    var puzzles = new ArrayList<int[]>();
+
+    for (String line : readResource(PUZZLES_PATH).split("\n"))
+    {
+      String[] fields = line.trim().split("\\s+");
+
+      if (fields.length == 2 && fields[0].equals(category))
+      {
+        puzzles.add(fields[1].chars().map(symbol -> symbol - '0').toArray());
+      }
+    }
+
+    if (puzzles.isEmpty())
+    {
+      throw new IllegalArgumentException(String.format("No corpus puzzles for category %s", category));
+    }
+
+    return puzzles;
+  }
+
+  /**
+   * Retrieves the initial cells of the puzzle in the sudoku API format.
+   *
+   * @param puzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return List<Square> : list of initial sudoku cells
+   */
+  public static List<Square> toSquares(int[] puzzle)
+  {
+    return IntStream.range(0, puzzle.length).filter(cellIndex -> puzzle[cellIndex] != 0)
+        .mapToObj(cellIndex -> new Square(cellIndex % PUZZLE_SIZE, cellIndex / PUZZLE_SIZE, puzzle[cellIndex]))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Retrieves the sample sudoku API response body.
+   *
+   * @return String : JSON response body
+   */
+  public static String getApiResponse()
+  {
+    return readResource(API_RESPONSE_PATH);
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Reads a classpath resource into a string.
+   *
+   * @param path : resource path
+   * @return String : resource contents
+   */
+  private static String readResource(String path)
+  {
+    try (InputStream stream = PuzzleCorpus.class.getResourceAsStream(path))
+    {
+      if (stream == null)
+      {
+        throw new IllegalStateException(String.format("Corpus resource %s not found", path));
+      }
+
+      try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8)))
+      {
+        return reader.lines().collect(Collectors.joining("\n"));
+      }
+    } catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package app.virtual_games.sudoku.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.models.Sudoku;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+import javafx.application.Platform;
+
+/**
+ * Benchmarks {@link Sudoku} construction from a list of initial cells, which covers the initial
+ * puzzle, uniqueness check, solve, user puzzle (i.e. blocks and cells), and hint cells.
+ * {@link #constructBoard} starts from checked and solved puzzles to isolate the model cost.
+ *
+ * The cells are JavaFX controls, so the JavaFX toolkit is started once per fork (requires a
+ * display).
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SudokuBenchmark
+{
+  private static final int BLOCK_SIZE = 3;
+
+  @Param({ "easy", "medium", "hard", "pathological" })
+  String category;
+
+  private List<List<Square>> initialCells;
+  private List<SudokuPuzzle> puzzles;
+
+  /**
+   * Starts the JavaFX toolkit and converts the corpus puzzles into initial cells.
+   */
+  @Setup
+  public void setUp()
+  {
+    try
+    {
+      Platform.startup(() ->
+      {
+      });
+    } catch (IllegalStateException e)
+    {
+      // toolkit already started in this fork
+    }
+
+    this.initialCells = PuzzleCorpus.getPuzzles(this.category).stream().map(PuzzleCorpus::toSquares)
+        .collect(Collectors.toList());
+    this.puzzles = this.initialCells.stream().map(cells -> new SudokuPuzzle(BLOCK_SIZE, cells))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Builds a sudoku for every puzzle of the category.
+   *
+   * @param blackhole : sink for the sudokus
+   */
+  @Benchmark
+  public void constructSudoku(Blackhole blackhole)
+  {
+    for (List<Square> cells : this.initialCells)
+    {
+      blackhole.consume(new Sudoku(BLOCK_SIZE, cells));
+    }
+  }
+
+  /**
+   * Builds a sudoku from every already checked and solved puzzle of the category, which isolates the
+   * board (i.e. blocks, cells, and lookup tables) from the solver.
+   *
+   * @param blackhole : sink for the sudokus
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public void constructBoard(Blackhole blackhole)
+  {
+    for (SudokuPuzzle puzzle : this.puzzles)
+    {
+      blackhole.consume(new Sudoku(puzzle));
+    }
+  }
+}
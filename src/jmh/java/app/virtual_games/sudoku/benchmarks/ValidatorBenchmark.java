@@ -0,0 +1,68 @@
+package app.virtual_games.sudoku.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import app.virtual_games.sudoku.controllers.SolutionController;
+import app.virtual_games.sudoku.solvers.Solver;
+
+/**
+ * Benchmarks the shared validator behind {@link SolutionController#verifyPuzzle}. Each operation
+ * checks every corpus puzzle of the category once.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark
+{
+  private static final int BLOCK_SIZE = 3;
+
+  @Param({ "easy", "medium", "hard", "pathological" })
+  String category;
+
+  private List<int[]> puzzles;
+  private Solver validator;
+
+  /**
+   * Loads the corpus puzzles and the shared validator.
+   */
+  @Setup
+  public void setUp()
+  {
+    this.puzzles = PuzzleCorpus.getPuzzles(this.category);
+    this.validator = SolutionController.getValidator(BLOCK_SIZE);
+  }
+
+  /**
+   * Checks every puzzle of the category for a unique solution.
+   *
+   * @param blackhole : sink for the solution counts
+   */
+  @Benchmark
+  public void verifyPuzzle(Blackhole blackhole)
+  {
+    for (int[] puzzle : this.puzzles)
+    {
+      blackhole.consume(this.validator.verifyUniqueness(puzzle));
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package app.virtual_games.sudoku.controllers;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
@@ -7,30 +8,53 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.security.KeyStore;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManagerFactory;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import app.virtual_games.sudoku.exceptions.ApiCertificateException;
 import app.virtual_games.sudoku.exceptions.ApiResponseException;
 import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
-import app.virtual_games.sudoku.models.ApiResponse;
 import app.virtual_games.sudoku.models.ApiResponse.Square;
 
 /**
- * Main controller for sudoku API.
+ * Main controller for sudoku API. A single {@link HttpClient} (and its {@link SSLContext}) is built
+ * lazily and shared by every request, so connections are pooled and kept alive (HTTP/2 when the
+ * server supports it) and TLS sessions are resumed instead of renegotiated.
+ *
+ * Responses are read with a shared Jackson {@link JsonFactory} and a streaming {@link JsonParser},
+ * which writes each square straight into a flat grid (no {@code ApiResponse} binding and no sort).
+ *
+ * The API URL can be overridden with the {@code sudoku.api.url} system property, or per call (e.g.
+ * a local stub server), as a template with a {@code %d} placeholder for the difficulty.
  *
  * @author Corey Caskey
  * @version 1.0.0
  */
 public class ApiController
 {
-  private static final String BASE_API_URL = "https://www.cs.utep.edu/cheon/ws/sudoku/new/?size=9&level=%d";
+  private static final String DEFAULT_API_URL = "https://www.cs.utep.edu/cheon/ws/sudoku/new/?size=9&level=%d";
+  private static final String API_URL = System.getProperty("sudoku.api.url", DEFAULT_API_URL);
   private static final String TRUST_STORE_PASSWORD = "mypassword";
+  private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+  private static final int PUZZLE_SIZE = 9;
+  private static final int TOTAL_CELLS = PUZZLE_SIZE * PUZZLE_SIZE;
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+  private static final Logger LOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+
+  private static volatile HttpClient httpClient;
 
   private ApiController()
   {
@@ -40,36 +64,376 @@ public class ApiController
    * Retrieves sudoku puzzle with the corresponding difficulty.
    *
    * @param difficulty : unique identifier for the puzzle difficulty (e.g. 1 -> Easy)
-   * @return List<JSONObject> : list of initial cell JSON Objects
+   * @return List<Square> : row-ordered list of initial sudoku cells
    * @throws SudokuPuzzleException
    */
   public static List<Square> getSudokuPuzzle(int difficulty) throws SudokuPuzzleException
+  {
+    return ApiController.getSudokuPuzzle(API_URL, difficulty, REQUEST_TIMEOUT);
+  }
+
+  /**
+   * Retrieves sudoku puzzle with the corresponding difficulty from the API URL.
+   *
+   * @param apiUrl     : API URL template (%d —> difficulty)
+   * @param difficulty : unique identifier for the puzzle difficulty (e.g. 1 -> Easy)
+   * @param timeout    : request timeout
+   * @return List<Square> : row-ordered list of initial sudoku cells
+   * @throws SudokuPuzzleException
+   */
+  public static List<Square> getSudokuPuzzle(String apiUrl, int difficulty, Duration timeout)
+      throws SudokuPuzzleException
+  {
+    return ApiController.toInitialCells(ApiController.getSudokuGrid(apiUrl, difficulty, timeout));
+  }
+
+  /**
+   * Retrieves sudoku puzzle with the corresponding difficulty as a flat grid, parsing the response
+   * body while it streams in.
+   *
+   * @param difficulty : unique identifier for the puzzle difficulty (e.g. 1 -> Easy)
+   * @return int[] : flat array of initial sudoku values (0 —> empty cell)
+   * @throws SudokuPuzzleException
+   */
+  public static int[] getSudokuGrid(int difficulty) throws SudokuPuzzleException
+  {
+    return ApiController.getSudokuGrid(API_URL, difficulty, REQUEST_TIMEOUT);
+  }
+
+  /**
+   * Retrieves sudoku puzzle with the corresponding difficulty from the API URL as a flat grid.
+   *
+   * @param apiUrl     : API URL template (%d —> difficulty)
+   * @param difficulty : unique identifier for the puzzle difficulty (e.g. 1 -> Easy)
+   * @param timeout    : request timeout
+   * @return int[] : flat array of initial sudoku values (0 —> empty cell)
+   * @throws SudokuPuzzleException
+   */
+  public static int[] getSudokuGrid(String apiUrl, int difficulty, Duration timeout) throws SudokuPuzzleException
   {
     try
     {
-      HttpClient client = ApiController.initializeHttpClient();
-      HttpRequest request = HttpRequest.newBuilder().uri(URI.create(String.format(BASE_API_URL, difficulty)))
-          .timeout(Duration.ofSeconds(10)).GET().build();
-      HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+      HttpClient client = ApiController.getHttpClient();
+      HttpResponse<InputStream> response = client.send(ApiController.buildPuzzleRequest(apiUrl, difficulty, timeout),
+          HttpResponse.BodyHandlers.ofInputStream());
 
-      if (response.statusCode() == 200)
+      try (InputStream body = response.body())
       {
+        ApiController.checkStatusCode(response);
+
+        return ApiController.parseSudokuGrid(body, new int[TOTAL_CELLS]);
+      }
+    } catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SudokuPuzzleException("Puzzle request interrupted");
+    } catch (Exception e)
+    {
+      throw ApiController.toSudokuPuzzleException(e);
+    }
+  }
+
+  /**
+   * Parses a sudoku API response body into a preallocated grid with a streaming parser. Fields other
+   * than the squares are skipped.
+   *
+   * @param body : JSON response body (not closed)
+   * @param grid : flat array of 81 sudoku values to fill (cleared first)
+   * @return int[] : the filled grid (0 —> empty cell)
+   * @throws IOException
+   * @throws ApiResponseException
+   */
+  public static int[] parseSudokuGrid(InputStream body, int[] grid) throws IOException, ApiResponseException
+  {
+    try (JsonParser parser = JSON_FACTORY.createParser(body))
+    {
+      return ApiController.parseSudokuGrid(parser, grid);
+    }
+  }
+
+  /**
+   * Retrieves sudoku puzzle with the corresponding difficulty without blocking the caller.
+   *
+   * @param difficulty : unique identifier for the puzzle difficulty (e.g. 1 -> Easy)
+   * @return CompletableFuture<List<Square>> : list of initial cells (completes exceptionally with a
+   *         {@link SudokuPuzzleException})
+   */
+  public static CompletableFuture<List<Square>> getSudokuPuzzleAsync(int difficulty)
+  {
+    return ApiController.getSudokuPuzzleAsync(API_URL, difficulty, REQUEST_TIMEOUT);
+  }
+
+  /**
+   * Retrieves sudoku puzzle with the corresponding difficulty without blocking the caller. Cancelling
+   * the returned future (or letting it time out) also cancels the HTTP exchange.
+   *
+   * @param difficulty : unique identifier for the puzzle difficulty (e.g. 1 -> Easy)
+   * @param timeout    : time allowed for the whole request, including parsing
+   * @return CompletableFuture<List<Square>> : list of initial cells (completes exceptionally with a
+   *         {@link SudokuPuzzleException})
+   */
+  public static CompletableFuture<List<Square>> getSudokuPuzzleAsync(int difficulty, Duration timeout)
+  {
+    return ApiController.getSudokuPuzzleAsync(API_URL, difficulty, timeout);
+  }
+
+  /**
+   * Retrieves sudoku puzzle with the corresponding difficulty from the API URL without blocking the
+   * caller.
+   *
+   * @param apiUrl     : API URL template (%d —> difficulty)
+   * @param difficulty : unique identifier for the puzzle difficulty (e.g. 1 -> Easy)
+   * @param timeout    : time allowed for the whole request, including parsing
+   * @return CompletableFuture<List<Square>> : list of initial cells (completes exceptionally with a
+   *         {@link SudokuPuzzleException})
+   */
+  public static CompletableFuture<List<Square>> getSudokuPuzzleAsync(String apiUrl, int difficulty,
+      Duration timeout)
+  {
+    HttpClient client;
+
+    try
+    {
+      client = ApiController.getHttpClient();
+    } catch (ApiCertificateException e)
+    {
+      return CompletableFuture.failedFuture(ApiController.toSudokuPuzzleException(e));
+    }
+
+    CompletableFuture<HttpResponse<byte[]>> responseFuture = client.sendAsync(
+        ApiController.buildPuzzleRequest(apiUrl, difficulty, timeout), HttpResponse.BodyHandlers.ofByteArray());
+
+    CompletableFuture<List<Square>> puzzleFuture = responseFuture.handle((response, error) ->
+    {
+      try
+      {
+        if (error != null)
+        {
+          throw error instanceof CompletionException ? error.getCause() : error;
+        }
+
+        ApiController.checkStatusCode(response);
+
+        try (JsonParser parser = JSON_FACTORY.createParser(response.body()))
+        {
+          return ApiController.toInitialCells(ApiController.parseSudokuGrid(parser, new int[TOTAL_CELLS]));
+        }
+      } catch (Throwable e)
+      {
+        throw new CompletionException(ApiController.toSudokuPuzzleException(e));
+      }
+    }).orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+
+    puzzleFuture.whenComplete((cells, error) ->
+    {
+      if (error != null)
+      {
+        responseFuture.cancel(true); // cancelled or timed out
+      }
+    });
+
+    return puzzleFuture;
+  }
+
+  /**
+   * Retrieves the API URL template used when none is given (i.e. the {@code sudoku.api.url} system
+   * property or the sudoku API).
+   *
+   * @return String : API URL template (%d —> difficulty)
+   */
+  public static String getApiUrl()
+  {
+    return API_URL;
+  }
+
+  /**
+   * Builds the shared HTTP client and opens a connection to the sudoku API in the background, so the
+   * first puzzle request doesn't pay for the trust store, SSL context, and TLS handshake.
+   */
+  public static void warmUp()
+  {
+    var warmUpThread = new Thread(ApiController::openConnection, "api-warm-up");
+
+    warmUpThread.setDaemon(true);
+    warmUpThread.start();
+  }
+
+  /** Private Helper Methods **/
 
-        ObjectMapper mapper = new ObjectMapper();
-        ApiResponse body = mapper.readValue(response.body(), ApiResponse.class);
+  /**
+   * Retrieves the shared HTTP client, initializing it on first use.
+   *
+   * @return HttpClient : HTTP client
+   * @throws ApiCertificateException
+   */
+  private static HttpClient getHttpClient() throws ApiCertificateException
+  {
+    HttpClient client = httpClient;
 
-        return ApiController.getInitialCells(body.getSquares());
+    if (client == null)
+    {
+      synchronized (ApiController.class)
+      {
+        client = httpClient;
+
+        if (client == null)
+        {
+          client = ApiController.initializeHttpClient();
+          httpClient = client;
+        }
       }
+    }
+
+    return client;
+  }
+
+  /**
+   * Builds the GET request for a sudoku puzzle with the corresponding difficulty.
+   *
+   * @param apiUrl     : API URL template (%d —> difficulty)
+   * @param difficulty : unique identifier for the puzzle difficulty (e.g. 1 -> Easy)
+   * @param timeout    : request timeout
+   * @return HttpRequest : puzzle request
+   */
+  private static HttpRequest buildPuzzleRequest(String apiUrl, int difficulty, Duration timeout)
+  {
+    return HttpRequest.newBuilder().uri(URI.create(String.format(apiUrl, difficulty))).timeout(timeout).GET()
+        .build();
+  }
 
+  /**
+   * Checks that the sudoku API answered successfully.
+   *
+   * @param response : HTTP response
+   * @throws ApiResponseException
+   */
+  private static void checkStatusCode(HttpResponse<?> response) throws ApiResponseException
+  {
+    if (response.statusCode() != 200)
+    {
       throw new ApiResponseException(String.format("Response return status code %d", response.statusCode()));
-    } catch (Exception e)
+    }
+  }
+
+  /**
+   * Reads the top-level response object, handing the squares array to {@link #parseSquares}.
+   *
+   * @param parser : streaming JSON parser
+   * @param grid   : flat array of 81 sudoku values to fill (cleared first)
+   * @return int[] : the filled grid
+   * @throws IOException
+   * @throws ApiResponseException
+   */
+  private static int[] parseSudokuGrid(JsonParser parser, int[] grid) throws IOException, ApiResponseException
+  {
+    if (grid.length != TOTAL_CELLS)
+    {
+      throw new IllegalArgumentException(String.format("Grid must have %d cells", TOTAL_CELLS));
+    }
+
+    if (parser.nextToken() != JsonToken.START_OBJECT)
     {
-      throw new SudokuPuzzleException(String.format("Failed to Load a Sudoku Puzzle. Reason: %s", e.getMessage()));
+      throw new ApiResponseException("Response body is not a JSON object");
     }
 
+    Arrays.fill(grid, 0);
+
+    while (parser.nextToken() == JsonToken.FIELD_NAME)
+    {
+      String fieldName = parser.currentName();
+      JsonToken valueToken = parser.nextToken();
+
+      if (fieldName.equals("squares") && valueToken == JsonToken.START_ARRAY)
+      {
+        ApiController.parseSquares(parser, grid);
+      } else
+      {
+        parser.skipChildren();
+      }
+    }
+
+    return grid;
   }
 
-  /** Private Helper Methods **/
+  /**
+   * Writes each square of the squares array into the grid.
+   *
+   * @param parser : streaming JSON parser (positioned on the start of the array)
+   * @param grid   : flat array of 81 sudoku values to fill
+   * @throws IOException
+   * @throws ApiResponseException
+   */
+  private static void parseSquares(JsonParser parser, int[] grid) throws IOException, ApiResponseException
+  {
+    while (parser.nextToken() == JsonToken.START_OBJECT)
+    {
+      int x = -1;
+      int y = -1;
+      var value = 0;
+
+      while (parser.nextToken() == JsonToken.FIELD_NAME)
+      {
+        String fieldName = parser.currentName();
+
+        parser.nextToken();
+
+        switch (fieldName)
+        {
+          case "x":
+            x = parser.getValueAsInt(-1);
+            break;
+          case "y":
+            y = parser.getValueAsInt(-1);
+            break;
+          case "value":
+            value = parser.getValueAsInt(0);
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+
+      if (x < 0 || x >= PUZZLE_SIZE || y < 0 || y >= PUZZLE_SIZE || value < 1 || value > PUZZLE_SIZE)
+      {
+        throw new ApiResponseException(String.format("Invalid square (%d, %d) with value %d", x, y, value));
+      }
+
+      grid[(y * PUZZLE_SIZE) + x] = value;
+    }
+  }
+
+  /**
+   * Wraps a failed request into a {@link SudokuPuzzleException}.
+   *
+   * @param cause : request failure
+   * @return SudokuPuzzleException : puzzle exception
+   */
+  private static SudokuPuzzleException toSudokuPuzzleException(Throwable cause)
+  {
+    String reason = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+
+    return new SudokuPuzzleException(String.format("Failed to Load a Sudoku Puzzle. Reason: %s", reason));
+  }
+
+  /**
+   * Sends a HEAD request to the sudoku API to establish a pooled connection.
+   */
+  private static void openConnection()
+  {
+    try
+    {
+      HttpRequest request = HttpRequest.newBuilder().uri(URI.create(String.format(API_URL, 1)))
+          .timeout(REQUEST_TIMEOUT).method("HEAD", HttpRequest.BodyPublishers.noBody()).build();
+
+      ApiController.getHttpClient().send(request, HttpResponse.BodyHandlers.discarding());
+    } catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+    } catch (Exception e)
+    {
+      LOGGER.log(Level.INFO, "Sudoku API warm-up failed: {0}", e.getMessage());
+    }
+  }
 
   /**
    * Initializes HTTP client with SSL certificate for sudoku API from embedded trust store.
@@ -97,7 +461,8 @@ public class ApiController
       SSLContext sslContext = SSLContext.getInstance("TLS");
       sslContext.init(null, tmf.getTrustManagers(), null);
 
-      return HttpClient.newBuilder().sslContext(sslContext).build();
+      return HttpClient.newBuilder().sslContext(sslContext).version(HttpClient.Version.HTTP_2)
+          .connectTimeout(Duration.ofSeconds(10)).build();
     } catch (Exception e)
     {
       throw new ApiCertificateException(
@@ -106,14 +471,23 @@ public class ApiController
   }
 
   /**
-   * Sorts a list of initial sudoku cells by row.
+   * Converts a flat grid into row-ordered initial sudoku cells.
    *
-   * @param squares : column-ordered list of initial sudoku cells
+   * @param grid : flat array of initial sudoku values (0 —> empty cell)
    * @return List<Square> : row-ordered list of initial sudoku cells
    */
-  private static List<Square> getInitialCells(List<Square> squares)
+  private static List<Square> toInitialCells(int[] grid)
   {
-    Collections.sort(squares, (cellOne, cellTwo) -> (cellOne.getY() - cellTwo.getY()));
+    var squares = new ArrayList<Square>();
+
+    for (var cellIndex = 0; cellIndex < grid.length; cellIndex++)
+    {
+      if (grid[cellIndex] != 0)
+      {
+        squares.add(new Square(cellIndex % PUZZLE_SIZE, cellIndex / PUZZLE_SIZE, grid[cellIndex]));
+      }
+    }
+
     return squares;
   }
 
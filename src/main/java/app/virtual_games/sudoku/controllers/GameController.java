@@ -1,7 +1,11 @@
 package app.virtual_games.sudoku.controllers;
 
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -11,17 +15,29 @@ import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
 import app.virtual_games.sudoku.handlers.HintCellHandler;
 import app.virtual_games.sudoku.handlers.TimePenaltyHandler;
 import app.virtual_games.sudoku.handlers.TimerHandler;
+import app.virtual_games.sudoku.models.GameSnapshot;
 import app.virtual_games.sudoku.models.NumberButton;
 import app.virtual_games.sudoku.models.PuzzleDifficulty;
 import app.virtual_games.sudoku.models.Sudoku;
 import app.virtual_games.sudoku.models.SudokuCell;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
 import app.virtual_games.sudoku.models.WritingTool;
+import app.virtual_games.sudoku.solvers.Hint;
+import app.virtual_games.sudoku.sources.ApiPuzzleSource;
+import app.virtual_games.sudoku.sources.LoadingStage;
+import app.virtual_games.sudoku.sources.LocalPuzzleGenerator;
+import app.virtual_games.sudoku.sources.PuzzleBank;
+import app.virtual_games.sudoku.sources.PuzzleBankSource;
+import app.virtual_games.sudoku.sources.PuzzlePrefetcher;
+import app.virtual_games.sudoku.sources.PuzzleSource;
+import app.virtual_games.sudoku.sources.ResilientPuzzleSource;
 import app.virtual_games.sudoku.views.GameScreen;
 import app.virtual_games.sudoku.views.MainMenu;
 import javafx.animation.Animation;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.collections.FXCollections;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -42,10 +58,19 @@ public class GameController extends Application
   private static final Logger LOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
   private static final String GAME_TIME_FORMAT = "%02d:%02d:%02d";
   private static final String WIN_TIME_FORMAT = "%s hour(s), %s minute(s), %s second(s)";
+  private static final long PUZZLE_TIMEOUT_SECONDS = 15;
+  private static final java.time.Duration API_REQUEST_TIMEOUT = java.time.Duration.ofSeconds(4);
+  private static final java.time.Duration HINT_TIME_BUDGET = java.time.Duration.ofMillis(500);
+  private static final String PUZZLE_BANK_PROPERTY = "sudoku.bank.path";
 
   private static Stage appStage;
   private static Pane currentScreen;
   private static Sudoku currentSudoku;
+  private static PuzzleSource puzzleSource = new ResilientPuzzleSource(
+      new ApiPuzzleSource(ApiController.getApiUrl(), API_REQUEST_TIMEOUT),
+      GameController.createFallbackSource());
+  private static PuzzlePrefetcher puzzlePrefetcher;
+  private static CompletableFuture<SudokuPuzzle> pendingPuzzle;
 
   private static PuzzleDifficulty[] puzzleDifficulties;
   private static PuzzleDifficulty currentDifficulty;
@@ -65,6 +90,9 @@ public class GameController extends Application
 
   private static Timeline hintCellTimer;
 
+  private static boolean isShowingConflicts;
+  private static Button conflictsButton;
+
   private static ArrayList<NumberButton> numberButtons;
   private static ArrayList<Button> writingToolButtons;
   private static ArrayList<Button> helperButtons;
@@ -97,16 +125,37 @@ public class GameController extends Application
     puzzleDifficulties = PuzzleDifficulty.getPuzzleDifficulties();
     currentDifficulty = puzzleDifficulties[0];
 
+    startPuzzlePrefetcher();
     loadMainMenu();
 
     appStage.show();
   }
 
+  /**
+   * Saves the game in progress and stops the background puzzle prefetching when the application
+   * exits.
+   */
+  @Override
+  public void stop()
+  {
+    if (currentScreen instanceof GameScreen)
+    {
+      saveCurrentGame();
+    }
+
+    if (puzzlePrefetcher != null)
+    {
+      puzzlePrefetcher.shutdown();
+    }
+  }
+
   /**
    * Loads {@link MainMenu} and related styles.
    */
   public static void loadMainMenu()
   {
+    cancelPendingPuzzle(); // leaving the game screen
+
     currentScreen = new MainMenu();
 
     appStage.setScene(new Scene(currentScreen, 800, 800));
@@ -118,63 +167,94 @@ public class GameController extends Application
   }
 
   /**
-   * Transitions to game screen.
+   * Requests a puzzle and transitions to game screen once it's loaded. The main menu stays responsive
+   * (with a loading indicator) in the meantime.
    */
   public static void transitionToGameScreen()
   {
+    ((MainMenu) currentScreen).showLoadingIndicator();
+    requestSudokuPuzzle(true); // true —> Main Menu
+  }
+
+  /**
+   * Resumes the saved game in a new game screen, without fetching or solving a puzzle. A saved game
+   * that can't be loaded is deleted.
+   */
+  public static void resumeSavedGame()
+  {
+    cancelPendingPuzzle();
+
     try
     {
-      initializeGameScreenVariables();
+      GameSnapshot snapshot = SaveGameController.loadGame();
 
-      if (currentSudoku.getIsSolved())
-      {
-        loadGameScreen();
-        loadGameScreenElements();
-        startGameTimer();
-      } else
-      {
-        LOGGER.log(Level.SEVERE, "No sudoku solution found");
-        openErrorDialog(true); // true —> Main Menu
-      }
-    } catch (Exception e)
-    {
-      for (StackTraceElement element : e.getStackTrace())
-      {
-        LOGGER.log(Level.SEVERE, element.toString());
-      }
+      currentDifficulty = snapshot.getDifficulty();
+      initializeGameScreenVariables(new Sudoku(snapshot));
+      startTime -= snapshot.getElapsedTime();
 
+      loadGameScreen();
+      loadGameScreenElements();
+      updateTimerLabel();
+      startGameTimer();
+    } catch (IOException | IllegalArgumentException e)
+    {
+      LOGGER.log(Level.SEVERE, "Failed to resume saved game: {0}", e.getMessage());
+      deleteSavedGame();
       openErrorDialog(true); // true —> Main Menu
     }
   }
 
   /**
-   * Starts a new sudoku puzzle.
+   * Saves the current game so it can be resumed from the main menu. A completed game deletes the
+   * saved game instead.
    */
-  public static void startNewSudoku()
+  public static void saveCurrentGame()
   {
-    try
+    if (currentSudoku == null || !currentSudoku.getIsSolved())
+    {
+      return;
+    } else if (currentSudoku.isCorrectSolution())
     {
-      initializeGameScreenVariables();
+      deleteSavedGame();
+      return;
+    }
 
-      if (currentSudoku.getIsSolved())
-      {
-        loadNewSudoku();
-        loadGameScreenElements();
-        startGameTimer();
-      } else
-      {
-        LOGGER.log(Level.SEVERE, "No sudoku solution found");
-        stopGameTimer();
-        openErrorDialog(false); // false —> Game Screen
-      }
-    } catch (Exception e)
+    try
     {
-      LOGGER.log(Level.SEVERE, e.getMessage());
-      stopGameTimer();
-      openErrorDialog(false); // false —> Game Screen
+      SaveGameController.saveGame(currentSudoku.toSnapshot(currentDifficulty, playingTime - startTime));
+    } catch (IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Failed to save game: {0}", e.getMessage());
     }
   }
 
+  /**
+   * Determines whether a saved game can be resumed.
+   *
+   * @return boolean : true —> saved game exists; false —> no saved game
+   */
+  public static boolean hasSavedGame()
+  {
+    return SaveGameController.hasSavedGame();
+  }
+
+  /**
+   * Cancels the puzzle request of the main menu, so the player can pick another difficulty.
+   */
+  public static void cancelLoading()
+  {
+    cancelPendingPuzzle();
+    ((MainMenu) currentScreen).hideLoadingIndicator();
+  }
+
+  /**
+   * Requests a new sudoku puzzle and starts it once it's loaded.
+   */
+  public static void startNewSudoku()
+  {
+    requestSudokuPuzzle(false); // false —> Game Screen
+  }
+
   /**
    * Resets the sudoku puzzle and corresponding game elements.
    */
@@ -417,13 +497,58 @@ public class GameController extends Application
   }
 
   /**
-   * Retrieves the hint and updates the sudoku puzzle.
+   * Finds the next logical deduction in the background, within {@link #HINT_TIME_BUDGET}, and
+   * updates the sudoku puzzle with it on the JavaFX application thread. A random cell is revealed if
+   * no deduction is found in time.
    */
   public static void getHint()
   {
-    stopHintCellTimer();
-    currentSudoku.getHint();
-    startHintCellTimer();
+    Sudoku hintSudoku = currentSudoku;
+    int[] hintPuzzle = hintSudoku.getHintPuzzle();
+
+    CompletableFuture
+        .supplyAsync(() -> SolutionController.findHint(hintSudoku.getBlockSize(), hintPuzzle, HINT_TIME_BUDGET))
+        .completeOnTimeout(null, HINT_TIME_BUDGET.toMillis(), TimeUnit.MILLISECONDS)
+        .whenComplete((hint, error) -> Platform.runLater(() -> loadHint(hintSudoku, hint)));
+  }
+
+  /**
+   * Shows or hides the cells whose value also occurs in their row, column, or block. The choice is
+   * kept for the following puzzles.
+   */
+  public static void toggleConflicts()
+  {
+    isShowingConflicts = !isShowingConflicts;
+
+    showConflicts();
+  }
+
+  /**
+   * Unhighlights the current hint cell and the cells that supported it.
+   */
+  public static void unhighlightHintCells()
+  {
+    currentSudoku.unhighlightHintCells();
+  }
+
+  /**
+   * Reverts the latest move of the current sudoku.
+   */
+  public static void undoMove()
+  {
+    currentSudoku.undoMove();
+  }
+
+  /**
+   * Reapplies the latest undone move of the current sudoku, and loads the Win dialog if it completes
+   * the puzzle.
+   */
+  public static void redoMove()
+  {
+    if (currentSudoku.redoMove() != null && currentSudoku.getCellsRemaining() == 0)
+    {
+      checkPuzzleCompleted();
+    }
   }
 
   /**
@@ -503,6 +628,7 @@ public class GameController extends Application
     if (currentSudoku.isCorrectSolution())
     {
       gameTimer.stop();
+      deleteSavedGame();
       loadWinDialog();
     }
   }
@@ -620,7 +746,7 @@ public class GameController extends Application
   {
     for (NumberButton numberButton : numberButtons)
     {
-      if (numberButton.getText().equals(Integer.toString(number)))
+      if (numberButton.getValue() == number)
       {
         return numberButton;
       }
@@ -640,18 +766,20 @@ public class GameController extends Application
   }
 
   /**
-   * Retrieves the corresponding time penalty value.
+   * Retrieves the corresponding time penalty value, which grows as the last third of the puzzle is
+   * reached.
    *
    * @return int : time penalty
    */
   public static int getTimePenalty()
   {
     int cellsRemaining = currentSudoku.getCellsRemaining();
+    int totalCells = currentSudoku.getTotalCells();
 
-    if (cellsRemaining < 27)
+    if (cellsRemaining < totalCells / 3)
     {
       return 45;
-    } else if (cellsRemaining < 54)
+    } else if (cellsRemaining < (2 * totalCells) / 3)
     {
       return 30;
     } else
@@ -686,14 +814,241 @@ public class GameController extends Application
 
   /** Private Helper Methods **/
 
+  /**
+   * Creates the source used when the sudoku API is unavailable: the puzzle bank named by the
+   * {@code sudoku.bank.path} system property if it can be mapped, otherwise the local generator.
+   *
+   * @return PuzzleSource : offline provider of new sudoku puzzles
+   */
+  private static PuzzleSource createFallbackSource()
+  {
+    String bankPath = System.getProperty(PUZZLE_BANK_PROPERTY);
+
+    if (bankPath != null)
+    {
+      try
+      {
+        return new PuzzleBankSource(new PuzzleBank(Paths.get(bankPath)));
+      } catch (IOException | InvalidPathException e)
+      {
+        LOGGER.log(Level.WARNING, "Failed to open puzzle bank: {0}", e.getMessage());
+      }
+    }
+
+    return new LocalPuzzleGenerator();
+  }
+
+  /**
+   * Deletes the saved game, if any.
+   */
+  private static void deleteSavedGame()
+  {
+    try
+    {
+      SaveGameController.deleteSavedGame();
+    } catch (IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Failed to delete saved game: {0}", e.getMessage());
+    }
+  }
+
+  /**
+   * Requests a puzzle from {@link #puzzlePrefetcher} without blocking the JavaFX application thread:
+   * fetching and solving run in the background, and only the board is built on the JavaFX
+   * application thread. On the main menu, each stage is shown with the loading indicator.
+   *
+   * @param isMainMenu : true —> Main Menu; false —> Game Screen
+   */
+  private static void requestSudokuPuzzle(boolean isMainMenu)
+  {
+    cancelPendingPuzzle();
+
+    CompletableFuture<SudokuPuzzle> puzzleFuture = puzzlePrefetcher.takeAsync(currentDifficulty,
+        loadingStage -> Platform.runLater(() -> showLoadingStage(loadingStage, isMainMenu)))
+        .orTimeout(PUZZLE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    pendingPuzzle = puzzleFuture;
+
+    puzzleFuture.whenComplete((puzzle, error) -> Platform.runLater(() ->
+    {
+      if (pendingPuzzle == puzzleFuture && isMainMenu && error == null)
+      {
+        showLoadingStage(LoadingStage.BUILDING, true);
+        Platform.runLater(() -> loadRequestedPuzzle(puzzleFuture, puzzle, error, true)); // stage renders first
+      } else
+      {
+        loadRequestedPuzzle(puzzleFuture, puzzle, error, isMainMenu);
+      }
+    }));
+  }
+
+  /**
+   * Loads the requested puzzle on the JavaFX application thread, unless the request was cancelled or
+   * replaced in the meantime.
+   *
+   * @param puzzleFuture : puzzle request
+   * @param puzzle       : requested puzzle; null —> request failed
+   * @param error        : request failure; null —> request succeeded
+   * @param isMainMenu   : true —> Main Menu; false —> Game Screen
+   */
+  private static void loadRequestedPuzzle(CompletableFuture<SudokuPuzzle> puzzleFuture, SudokuPuzzle puzzle,
+      Throwable error, boolean isMainMenu)
+  {
+    if (pendingPuzzle == puzzleFuture)
+    {
+      pendingPuzzle = null;
+
+      if (isMainMenu)
+      {
+        ((MainMenu) currentScreen).hideLoadingIndicator();
+        loadGameScreenPuzzle(puzzle, error);
+      } else
+      {
+        loadNewSudokuPuzzle(puzzle, error);
+      }
+    }
+  }
+
+  /**
+   * Shows the stage of the pending puzzle request on the main menu.
+   *
+   * @param loadingStage : loading stage
+   * @param isMainMenu   : true —> Main Menu; false —> Game Screen
+   */
+  private static void showLoadingStage(LoadingStage loadingStage, boolean isMainMenu)
+  {
+    if (isMainMenu && pendingPuzzle != null && currentScreen instanceof MainMenu)
+    {
+      ((MainMenu) currentScreen).showLoadingStage(loadingStage);
+    }
+  }
+
+  /**
+   * Loads the hint into the sudoku it was requested for, unless another sudoku has been loaded since.
+   *
+   * @param hintSudoku : sudoku the hint was requested for
+   * @param hint       : next logical deduction; null —> none found (or the request failed)
+   */
+  private static void loadHint(Sudoku hintSudoku, Hint hint)
+  {
+    if (currentSudoku == hintSudoku)
+    {
+      stopHintCellTimer();
+      currentSudoku.loadHint(hint);
+      startHintCellTimer();
+    }
+  }
+
+  /**
+   * Cancels {@link #pendingPuzzle}, if any.
+   */
+  private static void cancelPendingPuzzle()
+  {
+    if (pendingPuzzle != null)
+    {
+      pendingPuzzle.cancel(true);
+      pendingPuzzle = null;
+    }
+  }
+
+  /**
+   * Loads the requested puzzle into a new game screen.
+   *
+   * @param puzzle : requested puzzle; null —> request failed
+   * @param error  : request failure; null —> request succeeded
+   */
+  private static void loadGameScreenPuzzle(SudokuPuzzle puzzle, Throwable error)
+  {
+    try
+    {
+      if (error != null)
+      {
+        throw new SudokuPuzzleException(getFailureMessage(error));
+      }
+
+      initializeGameScreenVariables(new Sudoku(puzzle));
+
+      if (currentSudoku.getIsSolved())
+      {
+        loadGameScreen();
+        loadGameScreenElements();
+        startGameTimer();
+      } else
+      {
+        LOGGER.log(Level.SEVERE, "No unique sudoku solution found ({0})", currentSudoku.getSolutionCount().getLabel());
+        openErrorDialog(true); // true —> Main Menu
+      }
+    } catch (Exception e)
+    {
+      LOGGER.log(Level.SEVERE, e.getMessage());
+
+      for (StackTraceElement element : e.getStackTrace())
+      {
+        LOGGER.log(Level.SEVERE, element.toString());
+      }
+
+      openErrorDialog(true); // true —> Main Menu
+    }
+  }
+
+  /**
+   * Loads the requested puzzle into the current game screen.
+   *
+   * @param puzzle : requested puzzle; null —> request failed
+   * @param error  : request failure; null —> request succeeded
+   */
+  private static void loadNewSudokuPuzzle(SudokuPuzzle puzzle, Throwable error)
+  {
+    try
+    {
+      if (error != null)
+      {
+        throw new SudokuPuzzleException(getFailureMessage(error));
+      }
+
+      initializeGameScreenVariables(new Sudoku(puzzle));
+
+      if (currentSudoku.getIsSolved())
+      {
+        loadNewSudoku();
+        loadGameScreenElements();
+        startGameTimer();
+      } else
+      {
+        LOGGER.log(Level.SEVERE, "No unique sudoku solution found ({0})", currentSudoku.getSolutionCount().getLabel());
+        stopGameTimer();
+        openErrorDialog(false); // false —> Game Screen
+      }
+    } catch (Exception e)
+    {
+      LOGGER.log(Level.SEVERE, e.getMessage());
+      stopGameTimer();
+      openErrorDialog(false); // false —> Game Screen
+    }
+  }
+
+  /**
+   * Retrieves the message of a failed puzzle request, unwrapping {@link CompletableFuture} wrappers.
+   *
+   * @param error : request failure
+   * @return String : failure message
+   */
+  private static String getFailureMessage(Throwable error)
+  {
+    Throwable cause = error.getCause() != null ? error.getCause() : error;
+
+    return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+  }
+
   /**
    * Initializes game screen state.
    *
-   * @throws SudokuPuzzleException
+   * @param sudoku : new or restored sudoku
    */
-  private static void initializeGameScreenVariables() throws SudokuPuzzleException
+  private static void initializeGameScreenVariables(Sudoku sudoku)
   {
-    currentSudoku = new Sudoku(currentDifficulty.getId());
+    currentSudoku = sudoku;
+    currentSudoku.getValueOccurrences().addListener(GameController::handleValueOccurrenceChange);
     currentWritingTool = WritingTool.PEN;
     currentClickedNumberButton = null; // TODO: is this the best way to do this ?
 
@@ -710,6 +1065,23 @@ public class GameController extends Application
     hintCellTimer = loadHintCellTimer();
   }
 
+  /**
+   * Warms up {@link #puzzleSource} and replaces {@link #puzzlePrefetcher} with one that fills its
+   * queues from it.
+   */
+  private static void startPuzzlePrefetcher()
+  {
+    if (puzzlePrefetcher != null)
+    {
+      puzzlePrefetcher.shutdown();
+    }
+
+    puzzleSource.warmUp();
+
+    puzzlePrefetcher = new PuzzlePrefetcher(puzzleSource);
+    puzzlePrefetcher.start();
+  }
+
   /**
    * Loads the game timer to track the playing time.
    *
@@ -784,6 +1156,23 @@ public class GameController extends Application
     helperButtons = (ArrayList<Button>) ((GameScreen) currentScreen).getHelperButtons();
     numberButtons = (ArrayList<NumberButton>) ((GameScreen) currentScreen).getNumberButtons();
     disabledNumberButtons = (ArrayList<NumberButton>) ((GameScreen) currentScreen).getDisabledNumberButtons();
+    conflictsButton = ((GameScreen) currentScreen).getConflictsButton();
+
+    showConflicts();
+  }
+
+  /**
+   * Applies {@link #isShowingConflicts} to the current sudoku and {@link #conflictsButton}.
+   */
+  private static void showConflicts()
+  {
+    currentSudoku.setIsShowingConflicts(isShowingConflicts);
+    conflictsButton.getStyleClass().remove("clicked-conflicts-button");
+
+    if (isShowingConflicts)
+    {
+      conflictsButton.getStyleClass().add("clicked-conflicts-button");
+    }
   }
 
   /**
@@ -798,6 +1187,31 @@ public class GameController extends Application
         TimeUnit.MILLISECONDS.toSeconds(playingTime - startTime) % TimeUnit.MINUTES.toSeconds(1));
   }
 
+  /**
+   * Disables the number button of a value once all of its occurrences are placed, and enables it
+   * again if an undo removes one of them.
+   *
+   * @param value       : sudoku value
+   * @param occurrences : new occurrence count
+   */
+  private static void handleValueOccurrenceChange(int value, int occurrences)
+  {
+    NumberButton numberButton = getNumberButton(value);
+
+    if (currentSudoku.getValueOccurrences().isComplete(value))
+    {
+      disableNumberButton(numberButton);
+
+      if (!disabledNumberButtons.contains(numberButton))
+      {
+        addDisabledNumberButton(numberButton);
+      }
+    } else if (disabledNumberButtons.remove(numberButton))
+    {
+      numberButton.setDisable(false);
+    }
+  }
+
   /**
    * Enables a number button if it's not supposed to be disabled.
    *
@@ -833,6 +1247,32 @@ public class GameController extends Application
     return currentSudoku;
   }
 
+  /**
+   * Retrieves {@link #puzzleSource}.
+   *
+   * @return PuzzleSource : provider of new sudoku puzzles
+   */
+  public static PuzzleSource getPuzzleSource()
+  {
+    return puzzleSource;
+  }
+
+  /**
+   * Updates {@link #puzzleSource} (e.g. to {@link LocalPuzzleGenerator} for offline play)
+   * and restarts {@link #puzzlePrefetcher} with it once the game has started.
+   *
+   * @param source : provider of new sudoku puzzles
+   */
+  public static void setPuzzleSource(PuzzleSource source)
+  {
+    puzzleSource = source;
+
+    if (puzzlePrefetcher != null)
+    {
+      startPuzzlePrefetcher();
+    }
+  }
+
   /**
    * Builds {@link #puzzleDifficulties} as a ComboBox.
    *
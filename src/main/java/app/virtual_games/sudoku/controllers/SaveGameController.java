@@ -0,0 +1,373 @@
+package app.virtual_games.sudoku.controllers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+import app.virtual_games.sudoku.models.GameSnapshot;
+import app.virtual_games.sudoku.models.PuzzleDifficulty;
+import app.virtual_games.sudoku.models.WritingTool;
+
+/**
+ * Main controller for saving and resuming games. A {@link GameSnapshot} is stored in a small,
+ * versioned binary file with the following (big—endian) layout:
+ *
+ * Header —> magic "SDKS" (4 bytes), version (1 byte), block size (1 byte), difficulty id (1 byte),
+ * reserved (1 byte), elapsed playing time in milliseconds (8 bytes).
+ *
+ * Cells —> 3 bytes per cell in puzzle order: initial cell flag (bit 7), writing tool ordinal (bits
+ * 5 — 6), and correct value (bits 0 — 4), then the current value, then the current notes. A 9x9
+ * game is 243 bytes.
+ *
+ * Hints —> hint cell count (2 bytes), then the index of each hint cell (2 bytes each).
+ *
+ * Trailer —> CRC32 of everything before it (4 bytes).
+ *
+ * Files are written to a temporary file next to the target and moved into place, so a crash never
+ * leaves a half—written save behind.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class SaveGameController
+{
+  static final int MAGIC = 0x53444B53; // "SDKS"
+  static final byte VERSION = 1;
+  static final int HEADER_SIZE = 16;
+  static final int CELL_SIZE = 3;
+
+  private static final String SAVE_PATH_PROPERTY = "sudoku.save.path";
+  private static final int MAX_BLOCK_SIZE = 5;
+  private static final int INITIAL_CELL_FLAG = 0x80;
+  private static final int TOOL_SHIFT = 5;
+  private static final int TOOL_MASK = 0x03;
+  private static final int VALUE_MASK = 0x1F;
+
+  private SaveGameController()
+  {
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Saves the game to {@link #getSavePath}, replacing any previously saved game.
+   *
+   * @param snapshot : snapshot of a game in progress
+   * @throws IOException
+   */
+  public static void saveGame(GameSnapshot snapshot) throws IOException
+  {
+    saveGame(snapshot, getSavePath());
+  }
+
+  /**
+   * Saves the game to a temporary file next to the target, then moves it into place.
+   *
+   * @param snapshot : snapshot of a game in progress
+   * @param savePath : path of the saved game file
+   * @throws IOException
+   */
+  public static void saveGame(GameSnapshot snapshot, Path savePath) throws IOException
+  {
+    Path absolutePath = savePath.toAbsolutePath();
+
+    Files.createDirectories(absolutePath.getParent());
+
+    Path tempPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+
+    try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING))
+    {
+      ByteBuffer savedGame = encodeSnapshot(snapshot);
+
+      while (savedGame.hasRemaining())
+      {
+        channel.write(savedGame);
+      }
+
+      channel.force(true);
+    } catch (IOException e)
+    {
+      Files.deleteIfExists(tempPath);
+      throw e;
+    }
+
+    Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /**
+   * Loads the game saved at {@link #getSavePath}.
+   *
+   * @return GameSnapshot : snapshot of the saved game
+   * @throws IOException
+   */
+  public static GameSnapshot loadGame() throws IOException
+  {
+    return loadGame(getSavePath());
+  }
+
+  /**
+   * Loads and validates a saved game.
+   *
+   * @param savePath : path of the saved game file
+   * @return GameSnapshot : snapshot of the saved game
+   * @throws IOException
+   */
+  public static GameSnapshot loadGame(Path savePath) throws IOException
+  {
+    try (FileChannel channel = FileChannel.open(savePath, StandardOpenOption.READ))
+    {
+      long fileSize = channel.size();
+
+      if (fileSize < HEADER_SIZE || fileSize > getFileSize(MAX_BLOCK_SIZE, getTotalCells(MAX_BLOCK_SIZE)))
+      {
+        throw toFormatException(savePath, String.format("unsupported file size %d", fileSize));
+      }
+
+      ByteBuffer savedGame = ByteBuffer.allocate((int) fileSize);
+
+      while (savedGame.hasRemaining())
+      {
+        if (channel.read(savedGame) < 0)
+        {
+          throw toFormatException(savePath, "unexpected end of file");
+        }
+      }
+
+      return decodeSnapshot(savedGame.flip(), savePath);
+    }
+  }
+
+  /**
+   * Determines whether a saved game exists.
+   *
+   * @return boolean : true —> saved game exists; false —> no saved game
+   */
+  public static boolean hasSavedGame()
+  {
+    return Files.isRegularFile(getSavePath());
+  }
+
+  /**
+   * Deletes the saved game, if any.
+   *
+   * @throws IOException
+   */
+  public static void deleteSavedGame() throws IOException
+  {
+    Files.deleteIfExists(getSavePath());
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Encodes a snapshot (see {@link SaveGameController}).
+   *
+   * @param snapshot : snapshot of a game in progress
+   * @return ByteBuffer : saved game ready to be written
+   */
+  static ByteBuffer encodeSnapshot(GameSnapshot snapshot)
+  {
+    int[] initialPuzzle = snapshot.getInitialPuzzle();
+    int[] solvedPuzzle = snapshot.getSolvedPuzzle();
+    int[] hintCells = snapshot.getHintCells();
+    ByteBuffer savedGame = ByteBuffer.allocate(getFileSize(snapshot.getBlockSize(), hintCells.length));
+
+    savedGame.putInt(MAGIC).put(VERSION).put((byte) snapshot.getBlockSize())
+        .put((byte) snapshot.getDifficulty().getId()).put((byte) 0);
+    savedGame.putLong(snapshot.getElapsedTime());
+
+    for (var cellIndex = 0; cellIndex < snapshot.getTotalCells(); cellIndex++)
+    {
+      int initialFlag = initialPuzzle[cellIndex] != 0 ? INITIAL_CELL_FLAG : 0;
+      int toolOrdinal = snapshot.getWritingTool(cellIndex).ordinal() << TOOL_SHIFT;
+
+      savedGame.put((byte) (initialFlag | toolOrdinal | solvedPuzzle[cellIndex]));
+      savedGame.put((byte) snapshot.getCellValue(cellIndex)).put((byte) snapshot.getCellNotes(cellIndex));
+    }
+
+    savedGame.putShort((short) hintCells.length);
+
+    for (int hintCell : hintCells)
+    {
+      savedGame.putShort((short) hintCell);
+    }
+
+    savedGame.putInt(calculateChecksum(savedGame.array(), savedGame.position()));
+
+    return savedGame.flip();
+  }
+
+  /**
+   * Decodes and validates a saved game (see {@link SaveGameController}).
+   *
+   * @param savedGame : contents of the saved game file
+   * @param savePath  : path of the saved game file
+   * @return GameSnapshot : snapshot of the saved game
+   * @throws IOException
+   */
+  static GameSnapshot decodeSnapshot(ByteBuffer savedGame, Path savePath) throws IOException
+  {
+    if (savedGame.remaining() < HEADER_SIZE || savedGame.getInt(0) != MAGIC || savedGame.get(4) != VERSION)
+    {
+      throw toFormatException(savePath, "not a version 1 saved game");
+    }
+
+    int blockSize = savedGame.get(5);
+
+    if (blockSize < 2 || blockSize > MAX_BLOCK_SIZE)
+    {
+      throw toFormatException(savePath, String.format("unsupported block size %d", blockSize));
+    }
+
+    int puzzleSize = blockSize * blockSize;
+    int totalCells = getTotalCells(blockSize);
+    int hintCountOffset = HEADER_SIZE + (totalCells * CELL_SIZE);
+
+    if (savedGame.limit() < hintCountOffset + Short.BYTES
+        || savedGame.limit() != getFileSize(blockSize, savedGame.getShort(hintCountOffset)))
+    {
+      throw toFormatException(savePath, "file size does not match its contents");
+    }
+
+    int checksumOffset = savedGame.limit() - Integer.BYTES;
+
+    if (savedGame.getInt(checksumOffset) != calculateChecksum(savedGame.array(), checksumOffset))
+    {
+      throw toFormatException(savePath, "checksum mismatch");
+    }
+
+    PuzzleDifficulty difficulty;
+
+    try
+    {
+      difficulty = PuzzleDifficulty.getEnumInstance(savedGame.get(6));
+    } catch (IllegalArgumentException e)
+    {
+      throw toFormatException(savePath, e.getMessage());
+    }
+
+    savedGame.position(HEADER_SIZE - Long.BYTES);
+
+    long elapsedTime = savedGame.getLong();
+    var initialPuzzle = new int[totalCells];
+    var solvedPuzzle = new int[totalCells];
+    var cellValues = new int[totalCells];
+    var cellNotes = new int[totalCells];
+    var writingTools = new WritingTool[totalCells];
+
+    for (var cellIndex = 0; cellIndex < totalCells; cellIndex++)
+    {
+      int packedCell = savedGame.get() & 0xFF;
+      int toolOrdinal = (packedCell >>> TOOL_SHIFT) & TOOL_MASK;
+
+      solvedPuzzle[cellIndex] = packedCell & VALUE_MASK;
+      initialPuzzle[cellIndex] = (packedCell & INITIAL_CELL_FLAG) != 0 ? solvedPuzzle[cellIndex] : 0;
+      cellValues[cellIndex] = savedGame.get();
+      cellNotes[cellIndex] = savedGame.get();
+
+      if (solvedPuzzle[cellIndex] < 1 || solvedPuzzle[cellIndex] > puzzleSize || cellValues[cellIndex] < 0
+          || cellValues[cellIndex] > puzzleSize || cellNotes[cellIndex] < 0 || cellNotes[cellIndex] > puzzleSize
+          || toolOrdinal >= WritingTool.values().length)
+      {
+        throw toFormatException(savePath, String.format("invalid cell %d", cellIndex));
+      }
+
+      writingTools[cellIndex] = WritingTool.values()[toolOrdinal];
+
+      if (writingTools[cellIndex] == WritingTool.ERASER || (initialPuzzle[cellIndex] != 0
+          && (cellValues[cellIndex] != initialPuzzle[cellIndex] || cellNotes[cellIndex] != 0
+              || writingTools[cellIndex] != WritingTool.PEN)))
+      {
+        throw toFormatException(savePath, String.format("inconsistent cell %d", cellIndex));
+      }
+    }
+
+    var hintCells = new int[savedGame.getShort()];
+
+    for (var hintIndex = 0; hintIndex < hintCells.length; hintIndex++)
+    {
+      hintCells[hintIndex] = savedGame.getShort();
+
+      if (hintCells[hintIndex] < 0 || hintCells[hintIndex] >= totalCells || initialPuzzle[hintCells[hintIndex]] != 0)
+      {
+        throw toFormatException(savePath, String.format("invalid hint cell %d", hintCells[hintIndex]));
+      }
+    }
+
+    return new GameSnapshot(blockSize, difficulty, elapsedTime, initialPuzzle, solvedPuzzle, cellValues, cellNotes,
+        writingTools, hintCells);
+  }
+
+  /**
+   * Calculates the number of cells for the block size.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @return int : total cells
+   */
+  private static int getTotalCells(int blockSize)
+  {
+    return blockSize * blockSize * blockSize * blockSize;
+  }
+
+  /**
+   * Calculates the size of a saved game file.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @param hintCount : number of remaining hint cells
+   * @return int : file size in bytes
+   */
+  private static int getFileSize(int blockSize, int hintCount)
+  {
+    return HEADER_SIZE + (getTotalCells(blockSize) * CELL_SIZE) + (Short.BYTES * (1 + hintCount)) + Integer.BYTES;
+  }
+
+  /**
+   * Calculates the CRC32 checksum of the first bytes of the saved game.
+   *
+   * @param savedGame : contents of the saved game file
+   * @param length    : number of bytes to check
+   * @return int : checksum
+   */
+  private static int calculateChecksum(byte[] savedGame, int length)
+  {
+    var checksum = new CRC32();
+
+    checksum.update(savedGame, 0, length);
+
+    return (int) checksum.getValue();
+  }
+
+  /**
+   * Creates the exception for a malformed saved game file.
+   *
+   * @param savePath : path of the saved game file
+   * @param reason   : what is wrong with the file
+   * @return IOException : malformed saved game exception
+   */
+  private static IOException toFormatException(Path savePath, String reason)
+  {
+    return new IOException(String.format("Malformed saved game %s: %s", savePath, reason));
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves the path of the saved game file: the {@code sudoku.save.path} system property if set,
+   * otherwise {@code .sudoku/save.bin} in the user's home directory.
+   *
+   * @return Path : path of the saved game file
+   */
+  public static Path getSavePath()
+  {
+    String savePath = System.getProperty(SAVE_PATH_PROPERTY);
+
+    return savePath != null ? Paths.get(savePath) : Paths.get(System.getProperty("user.home"), ".sudoku", "save.bin");
+  }
+}
@@ -1,225 +1,189 @@
 package app.virtual_games.sudoku.controllers;
 
-import java.util.OptionalInt;
-import java.util.stream.IntStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
-import app.virtual_games.sudoku.models.CellPosition;
 import app.virtual_games.sudoku.models.Sudoku;
+import app.virtual_games.sudoku.solvers.BitmaskSolver;
+import app.virtual_games.sudoku.solvers.DancingLinksSolver;
+import app.virtual_games.sudoku.solvers.DifficultyGrade;
+import app.virtual_games.sudoku.solvers.Hint;
+import app.virtual_games.sudoku.solvers.LogicalSolver;
+import app.virtual_games.sudoku.solvers.ParallelSolver;
+import app.virtual_games.sudoku.solvers.SolutionCheck;
+import app.virtual_games.sudoku.solvers.SolutionCount;
+import app.virtual_games.sudoku.solvers.SolveMode;
+import app.virtual_games.sudoku.solvers.Solver;
 
 /**
- * Implements back—tracking, DFS algorithm to solve puzzle.
+ * Main controller for solving sudoku puzzles. Thin, thread—safe facade over a shared
+ * {@link Solver} per block size, plus a {@link DancingLinksSolver} per block size that validates
+ * puzzles before they're played and a {@link LogicalSolver} per block size that grades them and
+ * finds hints.
  *
  * @author Corey Caskey
  * @version 1.0.0
  */
 public class SolutionController
 {
-  private static int[] solvedPuzzle;
-  private static int puzzleSize;
-  private static int blockSize;
-  private static int totalCells;
+  private static final Map<Integer, Solver> SOLVERS = new ConcurrentHashMap<>();
+  private static final Map<Integer, Solver> PARALLEL_SOLVERS = new ConcurrentHashMap<>();
+  private static final Map<Integer, Solver> VALIDATORS = new ConcurrentHashMap<>();
+  private static final Map<Integer, LogicalSolver> GRADERS = new ConcurrentHashMap<>();
 
   private SolutionController()
   {
   }
 
   /**
-   * Initializes the following variable(s): {@link #solvedPuzzle} {@link #puzzleSize}
-   * {@link #blockSize} {@link #totalCells} Passes control to {@link #solutionHelper()}.
+   * Solves the sudoku's initial puzzle. Safe to call from multiple threads at once.
    *
    * @param sudoku : base sudoku class
-   * @return int[] : array of correct sudoku values
+   * @return int[] : array of correct sudoku values; null —> no solution found
    */
   public static int[] solvePuzzle(Sudoku sudoku)
   {
-    solvedPuzzle = sudoku.getInitialPuzzle().clone();
-    puzzleSize = sudoku.getPuzzleSize();
-    blockSize = sudoku.getBlockSize();
-    totalCells = sudoku.getTotalCells();
-
-    return solutionHelper() ? solvedPuzzle : null;
+    return solvePuzzle(sudoku, SolveMode.SEQUENTIAL);
   }
 
-  /** Private Helper Methods **/
-
   /**
-   * Primary recursive helper method that facilitates the DFS algorithm.
+   * Solves the sudoku's initial puzzle with the selected solve mode. Safe to call from multiple
+   * threads at once.
    *
-   * @return boolean : true —> valid solution found; false —> no solution found
+   * @param sudoku    : base sudoku class
+   * @param solveMode : sequential or fork/join solving
+   * @return int[] : array of correct sudoku values; null —> no solution found
    */
-  private static boolean solutionHelper()
+  public static int[] solvePuzzle(Sudoku sudoku, SolveMode solveMode)
   {
-    CellPosition emptyCell = getEmptyCell();
-
-    if (emptyCell != null)
-    {
-      return testSudokuValues(emptyCell);
-    }
-
-    return true; // no more empty cells
-  }
-
-  /**
-   * Retrieves the {@link CellPosition} of the next empty cell.
-   *
-   * @return CellPosition : position of the empty cell
-   */
-  private static CellPosition getEmptyCell()
-  {
-    OptionalInt cellIndex = IntStream.range(0, totalCells).filter(i -> solvedPuzzle[i] == 0).findFirst();
-
-    return cellIndex.isPresent() ? getCellPosition(cellIndex.getAsInt()) : null;
+    return getSolver(sudoku.getBlockSize(), solveMode).solve(sudoku.getInitialPuzzle());
   }
 
   /**
-   * Initializes the {@link CellPosition} for the empty cell.
+   * Solves the initial puzzle. Safe to call from multiple threads at once.
    *
-   * @param cellIndex : index of the cell in the puzzle array
-   * @return CellPosition : position of the empty cell
+   * @param blockSize     : number of rows (or columns) in a sudoku block
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return int[] : array of correct sudoku values; null —> no solution found
    */
-  private static CellPosition getCellPosition(int cellIndex)
+  public static int[] solvePuzzle(int blockSize, int[] initialPuzzle)
   {
-    return new CellPosition(cellIndex / puzzleSize, cellIndex % puzzleSize);
+    return getSolver(blockSize).solve(initialPuzzle);
   }
 
   /**
-   * Secondary recursive helper method that facilites the back—tracking process.
+   * Determines whether the sudoku's initial puzzle has no solution, a unique solution, or multiple
+   * solutions. Stops searching after the second solution, so it's cheap enough to run on every
+   * puzzle load.
    *
-   * @param emptyCell : position of the empty cell
-   * @return boolean : true —> valid solution found; false —> invalid solution found
+   * @param sudoku : base sudoku class
+   * @return SolutionCount : number of solutions
    */
-  private static boolean testSudokuValues(CellPosition emptyCell)
+  public static SolutionCount verifyPuzzle(Sudoku sudoku)
   {
-    for (var testValue = 1; testValue <= puzzleSize; testValue++)
-    {
-      if (isPotentialValue(emptyCell, testValue))
-      {
-        solvedPuzzle[getCellIndex(emptyCell)] = testValue; // test the proposed value
-
-        if (solutionHelper())
-        {
-          return true;
-        } // proposed value gave a valid solution
-
-        solvedPuzzle[getCellIndex(emptyCell)] = 0; // proposed value gave an invalid solution
-      }
-    }
-
-    return false;
+    return verifyPuzzle(sudoku.getBlockSize(), sudoku.getInitialPuzzle());
   }
 
   /**
-   * Determines whether the proposed sudoku value and position cause conflicts.
+   * Determines whether the initial puzzle has no solution, a unique solution, or multiple solutions.
    *
-   * @param emptyCell : position of the empty cell
-   * @param testValue : proposed sudoku value
-   * @return boolean : true —> no conflicts; false —> conflicts
+   * @param blockSize     : number of rows (or columns) in a sudoku block
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return SolutionCount : number of solutions
    */
-  private static boolean isPotentialValue(CellPosition emptyCell, int testValue)
+  public static SolutionCount verifyPuzzle(int blockSize, int[] initialPuzzle)
   {
-    return isUniqueInRow(emptyCell, testValue) && isUniqueInColumn(emptyCell, testValue)
-        && isUniqueInBlock(emptyCell, testValue);
+    return getValidator(blockSize).verifyUniqueness(initialPuzzle);
   }
 
   /**
-   * Determines whether the proposed sudoku value already exists in the sudoku row.
+   * Determines whether the initial puzzle has no solution, a unique solution, or multiple solutions,
+   * and solves it when the solution is unique, in a single search of the shared validator.
    *
-   * @param emptyCell : position of the empty cell
-   * @param testValue : proposed sudoku value
-   * @return boolean : true —> no conflicts; false —> conflicts
+   * @param blockSize     : number of rows (or columns) in a sudoku block
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return SolutionCheck : number of solutions and the unique solution
    */
-  private static boolean isUniqueInRow(CellPosition emptyCell, int testValue)
+  public static SolutionCheck verifySolution(int blockSize, int[] initialPuzzle)
   {
-    return IntStream.range(0, puzzleSize)
-        .filter(col -> isRepeat(new CellPosition(emptyCell.getRow(), col), emptyCell, testValue)).count() == 0;
+    return getValidator(blockSize).verifySolution(initialPuzzle);
   }
 
   /**
-   * Determines whether the proposed sudoku value already exists in the sudoku column.
+   * Grades the initial puzzle by the human solving techniques it needs. Safe to call from multiple
+   * threads at once.
    *
-   * @param emptyCell : position of the empty cell
-   * @param testValue : proposed sudoku value
-   * @return boolean : true —> no conflicts; false —> conflicts
+   * @param blockSize     : number of rows (or columns) in a sudoku block
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return DifficultyGrade : techniques needed and difficulty score
    */
-  private static boolean isUniqueInColumn(CellPosition emptyCell, int testValue)
+  public static DifficultyGrade gradePuzzle(int blockSize, int[] initialPuzzle)
   {
-    return IntStream.range(0, puzzleSize)
-        .filter(row -> isRepeat(new CellPosition(row, emptyCell.getCol()), emptyCell, testValue)).count() == 0;
+    return getGrader(blockSize).grade(initialPuzzle);
   }
 
   /**
-   * Determines whether the proposed sudoku value already exists in the sudoku block.
+   * Finds the next logical deduction from a game in progress. Safe to call from multiple threads at
+   * once.
    *
-   * @param emptyCell : position of the empty cell
-   * @param testValue : proposed sudoku value
-   * @return boolean : true —> no conflicts; false —> conflicts
+   * @param blockSize     : number of rows (or columns) in a sudoku block
+   * @param currentPuzzle : flat array of the initial and correctly placed values (0 —> empty cell)
+   * @param timeBudget    : maximum search time
+   * @return Hint : next deduction; null —> no technique applies or the time budget ran out
    */
-  private static boolean isUniqueInBlock(CellPosition emptyCell, int testValue)
+  public static Hint findHint(int blockSize, int[] currentPuzzle, Duration timeBudget)
   {
-    return isUniqueInBlockRows(emptyCell, testValue);
+    return getGrader(blockSize).findHint(currentPuzzle, timeBudget);
   }
 
   /**
-   * Helper method that checks for conflicts in the block's rows.
+   * Retrieves the shared {@link Solver} for the block size.
    *
-   * @param emptyCell : position of the empty cell
-   * @param testValue : proposed sudoku value
-   * @return boolean : true —> no conflicts; false —> conflicts
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @return Solver : shared solver
    */
-  private static boolean isUniqueInBlockRows(CellPosition emptyCell, int testValue)
+  public static Solver getSolver(int blockSize)
   {
-    int rowOffset = emptyCell.getRow() - (emptyCell.getRow() % blockSize);
-
-    // If the proposed value is unique in each block column of the current block row,
-    // the number of true values filtered below will be equal to blockSize (i.e. 3)
-
-    return IntStream.range(0, blockSize).filter(row -> isUniqueInBlockCols(row + rowOffset, emptyCell, testValue))
-        .count() == blockSize;
+    return SOLVERS.computeIfAbsent(blockSize, BitmaskSolver::new);
   }
 
   /**
-   * Helper method that checks for conflicts in the block's columns.
+   * Retrieves the shared {@link Solver} for the block size and solve mode.
    *
-   * @param row       : current block row
-   * @param emptyCell : position of the empty cell
-   * @param testValue : proposed sudoku value
-   * @return boolean : true —> no conflicts; false —> conflicts
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @param solveMode : sequential or fork/join solving
+   * @return Solver : shared solver
    */
-  private static boolean isUniqueInBlockCols(int row, CellPosition emptyCell, int testValue)
+  public static Solver getSolver(int blockSize, SolveMode solveMode)
   {
-    int colOffset = emptyCell.getCol() - (emptyCell.getCol() % blockSize);
-
-    // If the proposed value is unique (i.e not a repeat) in each of the block row's cells,
-    // the number of true values filtered below will be equal to blockSize (i.e. 3)
+    if (solveMode == SolveMode.PARALLEL)
+    {
+      return PARALLEL_SOLVERS.computeIfAbsent(blockSize, ParallelSolver::new);
+    }
 
-    return IntStream.range(0, blockSize)
-        .filter(col -> !isRepeat(new CellPosition(row, col + colOffset), emptyCell, testValue)).count() == blockSize;
+    return getSolver(blockSize);
   }
 
   /**
-   * Determines whether another cell has the same value as the proposed sudoku value.
+   * Retrieves the shared puzzle validator for the block size.
    *
-   * @param compareCell : position of the compared cell
-   * @param emptyCell   : position of the empty cell
-   * @param testValue   : proposed sudoku value
-   * @return boolean : true —> conflicts; false —> no conflicts
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @return Solver : shared validator
    */
-  private static boolean isRepeat(CellPosition comparedCell, CellPosition emptyCell, int testValue)
+  public static Solver getValidator(int blockSize)
   {
-    boolean isDifferentCell = !emptyCell.equals(comparedCell);
-    boolean isSameValue = solvedPuzzle[getCellIndex(comparedCell)] == testValue;
-
-    return isDifferentCell && isSameValue;
+    return VALIDATORS.computeIfAbsent(blockSize, DancingLinksSolver::new);
   }
 
   /**
-   * Retrieves the cell index.
+   * Retrieves the shared puzzle grader for the block size.
    *
-   * @param cell : position of the cell
-   * @return int : index of the cell in the puzzle array
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @return LogicalSolver : shared grader
    */
-  private static int getCellIndex(CellPosition cell)
+  public static LogicalSolver getGrader(int blockSize)
   {
-    return (cell.getRow() * puzzleSize) + cell.getCol();
+    return GRADERS.computeIfAbsent(blockSize, LogicalSolver::new);
   }
 }
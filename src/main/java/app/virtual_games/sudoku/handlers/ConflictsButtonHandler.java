@@ -0,0 +1,26 @@
+package app.virtual_games.sudoku.handlers;
+
+import app.virtual_games.sudoku.controllers.GameController;
+
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+
+/**
+ * Custom event handler for the conflicts button click event.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class ConflictsButtonHandler implements EventHandler<ActionEvent>
+{
+  /**
+   * Initiates showing or hiding the conflicting cells.
+   *
+   * @param clickEvent : conflicts button click event
+   */
+  @Override
+  public void handle(ActionEvent clickEvent)
+  {
+    GameController.toggleConflicts();
+  }
+}
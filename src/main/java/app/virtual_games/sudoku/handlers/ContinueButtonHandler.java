@@ -0,0 +1,25 @@
+package app.virtual_games.sudoku.handlers;
+
+import app.virtual_games.sudoku.controllers.GameController;
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+
+/**
+ * Event handler for continue button.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class ContinueButtonHandler implements EventHandler<ActionEvent>
+{
+  /**
+   * Resumes the saved game.
+   *
+   * @param clickEvent : button click event
+   */
+  @Override
+  public void handle(ActionEvent clickEvent)
+  {
+    GameController.resumeSavedGame();
+  }
+}
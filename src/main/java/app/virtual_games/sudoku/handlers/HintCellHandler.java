@@ -14,17 +14,13 @@ import javafx.event.EventHandler;
 public class HintCellHandler implements EventHandler<ActionEvent>
 {
   /**
-   * Initiates clearing the background color of the current hint cell.
+   * Initiates clearing the background color of the current hint cell and its supporting cells.
    *
    * @param event : base event
    */
   @Override
   public void handle(ActionEvent event)
   {
-    if (GameController.getCurrentHintCell() != null)
-    {
-      GameController.getCurrentHintCell().unhighlightHintCell();
-      GameController.setCurrentHintCell(null);
-    }
+    GameController.unhighlightHintCells();
   }
 }
@@ -14,7 +14,7 @@ import javafx.event.EventHandler;
 public class ReturnToMainMenuHandler implements EventHandler<ActionEvent>
 {
   /**
-   * Initiates transitioning to the Main Menu.
+   * Saves the game in progress and initiates transitioning to the Main Menu.
    *
    * @param clickEvent : Return to Main Menu dialog confirm button click event
    */
@@ -24,6 +24,7 @@ public class ReturnToMainMenuHandler implements EventHandler<ActionEvent>
     GameController.stopGameTimer();
     GameController.stopTimePenaltyTimer();
     GameController.stopHintCellTimer();
+    GameController.saveCurrentGame();
     GameController.loadMainMenu();
   }
 }
@@ -0,0 +1,34 @@
+package app.virtual_games.sudoku.handlers;
+
+import app.virtual_games.sudoku.controllers.GameController;
+
+import javafx.event.ActionEvent;
+import javafx.event.EventHandler;
+
+/**
+ * Custom event handler for the undo button click event.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class UndoButtonHandler implements EventHandler<ActionEvent>
+{
+  /**
+   * Initiates reverting the latest move.
+   *
+   * @param clickEvent : undo button click event
+   */
+  @Override
+  public void handle(ActionEvent clickEvent)
+  {
+    GameController.hideTimePenalty();
+    GameController.stopTimePenaltyTimer();
+    GameController.stopHintCellTimer();
+    GameController.setCurrentHintCell(null);
+    GameController.unhighlightSudokuPuzzle();
+    GameController.unclickNumberButton();
+    GameController.setCurrentClickedNumberButton(null);
+    GameController.resetCurrentClickedCell();
+    GameController.undoMove();
+  }
+}
@@ -0,0 +1,21 @@
+package app.virtual_games.sudoku.listeners;
+
+import app.virtual_games.sudoku.sources.LoadingStage;
+
+/**
+ * Listener for the progress of a puzzle request (e.g. to show the current stage on the main menu).
+ * Called on the thread that starts the stage, which is usually not the JavaFX application thread.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface LoadingStageListener
+{
+  /**
+   * Called when a puzzle request enters a new stage.
+   *
+   * @param loadingStage : new loading stage
+   */
+  void stageChanged(LoadingStage loadingStage);
+}
@@ -1,10 +1,9 @@
 package app.virtual_games.sudoku.listeners;
 
-import java.util.HashMap;
-
 import app.virtual_games.sudoku.controllers.GameController;
 import app.virtual_games.sudoku.models.Sudoku;
 import app.virtual_games.sudoku.models.SudokuCell;
+import app.virtual_games.sudoku.models.ValueSymbols;
 import app.virtual_games.sudoku.models.WritingTool;
 
 import javafx.beans.property.StringProperty;
@@ -22,12 +21,14 @@ import javafx.beans.value.ObservableValue;
  */
 public class TextPropertyListener implements ChangeListener<String>
 {
-  private static final int PUZZLE_SIZE = 9;
+  private boolean isHandlingChange;
 
 
   /**
    *
-   * Limits the inputs in the text field to numbers between 1 and 9.
+   * Limits the inputs in the text field to the values of the puzzle (e.g. 1 — 9 for a 9x9 puzzle,
+   * 1 — 9 and A — G for a 16x16 puzzle), and records the resulting move for undo/redo. Changes made
+   * while handling a change (e.g. clearing an invalid character) are part of the same move.
    *
    * @param observable : {@link ObservableValue} that maps to the sudoku cell input
    * @param oldValue : previous sudoku cell input
@@ -39,30 +40,72 @@ public class TextPropertyListener implements ChangeListener<String>
   {
     SudokuCell inputCell = (SudokuCell) ((StringProperty) observable).getBean();
 
+    if (this.isHandlingChange)
+    {
+      this.handleTextChange(inputCell, oldValue, newValue);
+      return;
+    }
+
+    int oldCellValue = inputCell.getCurrentValue();
+    int oldNotes = inputCell.getNotes();
+
+    this.isHandlingChange = true;
+
+    try
+    {
+      this.handleTextChange(inputCell, oldValue, newValue);
+    }
+    finally
+    {
+      this.isHandlingChange = false;
+    }
+
+    inputCell.getParentSudoku().recordMove(inputCell, oldCellValue, oldNotes);
+  }
+
+
+  /**  Private Helper Methods  **/
+
+
+  /**
+   *
+   * Limits the inputs in the text field to the values of the puzzle.
+   *
+   * @param inputCell : sudoku cell input
+   * @param oldValue : previous sudoku cell input
+   * @param newValue : current sudoku cell input
+   *
+   */
+  private void handleTextChange(SudokuCell inputCell, String oldValue, String newValue)
+  {
+    int puzzleSize = inputCell.getParentSudoku().getPuzzleSize();
+
     if (newValue.equals("") && !inputCell.isDisabled()) // character was deleted by keystroke (not eraser)
     {
       // Inputting invalid characters will call TextPropertyListener again
       // and proceed to this point
 
-      if (oldValue.matches("^([1-9])$"))
+      if (ValueSymbols.toValue(oldValue, puzzleSize) > 0)
       {
         this.handleValidOldValue(inputCell);
       }
     }
-    else if (!newValue.matches("^([1-9])$"))
-    {
-      inputCell.setText("");
-    }
     else
     {
-      this.handleValidNewValue(newValue, inputCell);
+      int value = ValueSymbols.toValue(newValue, puzzleSize);
+
+      if (value == 0)
+      {
+        inputCell.setText("");
+      }
+      else
+      {
+        this.handleValidNewValue(value, inputCell);
+      }
     }
   }
 
 
-  /**  Private Helper Methods  **/
-
-
   /**
    *
    * Handles the deleted input event when the previous cell text was valid.
@@ -88,21 +131,21 @@ public class TextPropertyListener implements ChangeListener<String>
    *
    * Handles the input event when the current cell text is valid.
    *
-   * @param newValue : current cell text
+   * @param newValue : current cell value
    * @param inputCell : sudoku cell input
    *
    */
-  private void handleValidNewValue(String newValue, SudokuCell inputCell)
+  private void handleValidNewValue(int newValue, SudokuCell inputCell)
   {
     if (inputCell.getWritingTool() == WritingTool.PEN)
     {
-      inputCell.setCurrentValue(Integer.parseInt(newValue));
+      inputCell.setCurrentValue(newValue);
 
       this.checkCellCorrectness(inputCell);
     }
     else if (inputCell.getWritingTool() == WritingTool.PENCIL)
     {
-      inputCell.setNotes(Integer.parseInt(newValue));
+      inputCell.setNotes(newValue);
     }
   }
 
@@ -123,10 +166,9 @@ public class TextPropertyListener implements ChangeListener<String>
       var sudoku = inputCell.getParentSudoku();
 
       sudoku.addCorrectCell(inputCell);
-      sudoku.updateValueOccurrences(inputCell.getCurrentValue());
+      sudoku.updateValueOccurrences(inputCell.getCurrentValue()); // disables a completed number button
       sudoku.decrementCellsRemaining();
 
-      this.disableNumberButton(sudoku, inputCell);
       this.handleWinCondition(sudoku);
     }
     else
@@ -145,28 +187,6 @@ public class TextPropertyListener implements ChangeListener<String>
   }
 
 
-  /**
-   *
-   * Disables the number button corresponding to the sudoku cell input, if necessary.
-   *
-   * @param sudoku : outer sudoku class
-   * @param inputCell : sudoku cell input
-   *
-   */
-  private void disableNumberButton(Sudoku sudoku, SudokuCell inputCell)
-  {
-    var valueOccurrences = (HashMap<Integer, Integer>) sudoku.getValueOccurrences();
-
-    if (valueOccurrences.get(inputCell.getCurrentValue()) == PUZZLE_SIZE)
-    {
-      var numberButton = GameController.getNumberButton(inputCell.getCurrentValue());
-
-      GameController.disableNumberButton(numberButton);
-      GameController.addDisabledNumberButton(numberButton);
-    }
-  }
-
-
   /**
    *
    * Handles the win condition, if necessary.
@@ -0,0 +1,20 @@
+package app.virtual_games.sudoku.listeners;
+
+/**
+ * Listener for changes to the occurrence count of a sudoku value (e.g. to disable its number button
+ * once the value is complete).
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ValueOccurrenceListener
+{
+  /**
+   * Called after the occurrence count of a value changes.
+   *
+   * @param value       : sudoku value
+   * @param occurrences : new occurrence count
+   */
+  void occurrencesChanged(int value, int occurrences);
+}
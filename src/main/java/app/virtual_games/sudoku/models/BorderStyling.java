@@ -12,6 +12,9 @@ public enum BorderStyling
   MIDDLE("no-border"), RIGHT("right-border"), BOTTOM_LEFT("bottom-left-border"), BOTTOM_MIDDLE("bottom-middle-border"),
   BOTTOM_RIGHT("bottom-right-border");
 
+  private static final BorderStyling[][] BLOCK_POSITIONS = { { TOP_LEFT, TOP_MIDDLE, TOP_RIGHT },
+      { LEFT, MIDDLE, RIGHT }, { BOTTOM_LEFT, BOTTOM_MIDDLE, BOTTOM_RIGHT } };
+
   private final String className;
 
   /**
@@ -29,196 +32,40 @@ public enum BorderStyling
   /**
    * Retrieves the enum instance that maps to the cell row and column.
    *
-   * @param row : cell row
-   * @param col : cell column
+   * @param row       : cell row
+   * @param col       : cell column
+   * @param blockSize : number of rows (or columns) in a sudoku block
    * @return BorderStyling : enum instance
    */
-  public static BorderStyling getEnumInstance(int row, int col)
+  public static BorderStyling getEnumInstance(int row, int col, int blockSize)
   {
-    var cell = new CellPosition(row, col);
-
-    if (isTopLeftCell(cell))
-    {
-      return TOP_LEFT;
-    } else if (isTopMiddleCell(cell))
-    {
-      return TOP_MIDDLE;
-    } else if (isTopRightCell(cell))
-    {
-      return TOP_RIGHT;
-    } else if (isMiddleLeftCell(cell))
-    {
-      return LEFT;
-    } else if (isMiddleRightCell(cell))
-    {
-      return RIGHT;
-    } else if (isBottomLeftCell(cell))
-    {
-      return BOTTOM_LEFT;
-    } else if (isBottomMiddleCell(cell))
-    {
-      return BOTTOM_MIDDLE;
-    } else if (isBottomRightCell(cell))
-    {
-      return BOTTOM_RIGHT;
-    } else
-    {
-      return MIDDLE;
-    }
+    return BLOCK_POSITIONS[getBlockPosition(row, blockSize)][getBlockPosition(col, blockSize)];
   }
 
   /** Private Helper Methods **/
 
   /**
-   * Determines whether the position corresponds to a top—left cell in a sudoku block.
-   *
-   * @param cell : cell position
-   * @return boolean
-   */
-  private static boolean isTopLeftCell(CellPosition cell)
-  {
-    return cell.getLocation().equals(new CellPosition(0, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(0, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(0, 6).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 6).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 6).getLocation());
-  }
-
-  /**
-   * Determines whether the position corresponds to a top—middle cell in a sudoku block.
+   * Determines whether the row (or column) is the first, a middle, or the last one in its sudoku
+   * block.
    *
-   * @param cell : cell position
-   * @return boolean
+   * @param index     : cell row (or column)
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @return int : 0 —> first; 1 —> middle; 2 —> last
    */
-  private static boolean isTopMiddleCell(CellPosition cell)
+  private static int getBlockPosition(int index, int blockSize)
   {
-    return cell.getLocation().equals(new CellPosition(0, 1).getLocation())
-        || cell.getLocation().equals(new CellPosition(0, 4).getLocation())
-        || cell.getLocation().equals(new CellPosition(0, 7).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 1).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 4).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 7).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 1).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 4).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 7).getLocation());
-  }
+    int blockIndex = index % blockSize;
 
-  /**
-   * Determines whether the position corresponds to a top—right cell in a sudoku block.
-   *
-   * @param cell : cell position
-   * @return boolean
-   */
-  private static boolean isTopRightCell(CellPosition cell)
-  {
-    return cell.getLocation().equals(new CellPosition(0, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(0, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(0, 8).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(3, 8).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(6, 8).getLocation());
-  }
-
-  /**
-   * Determines whether the position corresponds to a middle—left cell in a sudoku block.
-   *
-   * @param cell : cell position
-   * @return boolean
-   */
-  private static boolean isMiddleLeftCell(CellPosition cell)
-  {
-    return cell.getLocation().equals(new CellPosition(1, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(1, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(1, 6).getLocation())
-        || cell.getLocation().equals(new CellPosition(4, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(4, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(4, 6).getLocation())
-        || cell.getLocation().equals(new CellPosition(7, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(7, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(7, 6).getLocation());
-  }
-
-  /**
-   * Determines whether the position corresponds to a middle—right cell in a sudoku block.
-   *
-   * @param cell : cell position
-   * @return boolean
-   */
-  private static boolean isMiddleRightCell(CellPosition cell)
-  {
-    return cell.getLocation().equals(new CellPosition(1, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(1, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(1, 8).getLocation())
-        || cell.getLocation().equals(new CellPosition(4, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(4, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(4, 8).getLocation())
-        || cell.getLocation().equals(new CellPosition(7, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(7, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(7, 8).getLocation());
-  }
-
-  /**
-   * Determines whether the position corresponds to a bottom—left cell in a sudoku block.
-   *
-   * @param cell : cell position
-   * @return boolean
-   */
-  private static boolean isBottomLeftCell(CellPosition cell)
-  {
-    return cell.getLocation().equals(new CellPosition(2, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(2, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(2, 6).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 6).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 0).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 3).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 6).getLocation());
-  }
-
-  /**
-   * Determines whether the position corresponds to a bottom—middle cell in a sudoku block.
-   *
-   * @param cell : cell position
-   * @return boolean
-   */
-  private static boolean isBottomMiddleCell(CellPosition cell)
-  {
-    return cell.getLocation().equals(new CellPosition(2, 1).getLocation())
-        || cell.getLocation().equals(new CellPosition(2, 4).getLocation())
-        || cell.getLocation().equals(new CellPosition(2, 7).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 1).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 4).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 7).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 1).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 4).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 7).getLocation());
-  }
-
-  /**
-   * Determines whether the position corresponds to a bottom—right cell in a sudoku block.
-   *
-   * @param cell : cell position
-   * @return boolean
-   */
-  private static boolean isBottomRightCell(CellPosition cell)
-  {
-    return cell.getLocation().equals(new CellPosition(2, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(2, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(2, 8).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(5, 8).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 2).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 5).getLocation())
-        || cell.getLocation().equals(new CellPosition(8, 8).getLocation());
+    if (blockIndex == 0)
+    {
+      return 0;
+    } else if (blockIndex == blockSize - 1)
+    {
+      return 2;
+    } else
+    {
+      return 1;
+    }
   }
 
   /** Getters and Setters **/
@@ -0,0 +1,329 @@
+package app.virtual_games.sudoku.models;
+
+import java.util.Arrays;
+
+/**
+ * Legal candidates (i.e. pencil marks) of every cell, stored as one bitmask per cell in a flat array
+ * (bit value — 1 —> value is a candidate). The grid tracks how often each value occurs in every row,
+ * column, and block, so placing or erasing a value only updates the cell and its peers (20 for a 9x9
+ * puzzle) instead of recalculating the whole puzzle.
+ *
+ * The same counts index the conflicts (i.e. a value more than once in a row, column, or block):
+ * whether a cell conflicts, and whether the puzzle has any conflict, is answered in O(1) without a
+ * known solution.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class CandidateGrid
+{
+  private final int puzzleSize;
+  private final int allCandidates;
+  private final CellPeers cellPeers;
+
+  private final int[] values;
+  private final int[] candidates;
+  private final int[] unitValues;
+  private final int[] unitCounts;
+
+  private int duplicateCount;
+
+  /**
+   * Initializes the candidates of every cell from the initial puzzle.
+   *
+   * @throws IllegalArgumentException
+   * @param blockSize     : number of rows (or columns) in a sudoku block
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   */
+  public CandidateGrid(int blockSize, int[] initialPuzzle) throws IllegalArgumentException
+  {
+    this.puzzleSize = blockSize * blockSize;
+    this.allCandidates = (1 << this.puzzleSize) - 1;
+    this.cellPeers = CellPeers.forBlockSize(blockSize);
+
+    this.values = new int[initialPuzzle.length];
+    this.candidates = new int[initialPuzzle.length];
+    this.unitValues = new int[3 * this.puzzleSize]; // rows, then columns, then blocks
+    this.unitCounts = new int[3 * this.puzzleSize * (this.puzzleSize + 1)];
+
+    this.reset(initialPuzzle);
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Recalculates every candidate and conflict from the puzzle values.
+   *
+   * @throws IllegalArgumentException
+   * @param puzzle : flat array of sudoku values (0 —> empty cell)
+   */
+  public void reset(int[] puzzle) throws IllegalArgumentException
+  {
+    if (puzzle.length != this.values.length)
+    {
+      throw new IllegalArgumentException(String.format("Puzzle must have %d cells", this.values.length));
+    }
+
+    Arrays.fill(this.unitValues, 0);
+    Arrays.fill(this.unitCounts, 0);
+    this.duplicateCount = 0;
+
+    for (var cellIndex = 0; cellIndex < puzzle.length; cellIndex++)
+    {
+      if (puzzle[cellIndex] < 0 || puzzle[cellIndex] > this.puzzleSize)
+      {
+        throw new IllegalArgumentException(
+            String.format("Unsupported value %d in cell %d", puzzle[cellIndex], cellIndex));
+      }
+
+      this.values[cellIndex] = puzzle[cellIndex];
+
+      if (puzzle[cellIndex] > 0)
+      {
+        this.addUnitValue(cellIndex, puzzle[cellIndex]);
+      }
+    }
+
+    for (var cellIndex = 0; cellIndex < puzzle.length; cellIndex++)
+    {
+      this.candidates[cellIndex] = this.values[cellIndex] > 0 ? 0 : this.calculateCandidates(cellIndex);
+    }
+  }
+
+  /**
+   * Updates the candidates of the cell and its peers when the value of the cell changes.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param newValue  : new cell value (0 —> empty cell)
+   */
+  public void updateCell(int cellIndex, int newValue)
+  {
+    int oldValue = this.values[cellIndex];
+
+    if (oldValue == newValue)
+    {
+      return;
+    }
+
+    this.values[cellIndex] = newValue;
+
+    if (oldValue > 0)
+    {
+      this.eraseValue(cellIndex, oldValue);
+    }
+
+    if (newValue > 0)
+    {
+      this.placeValue(cellIndex, newValue);
+    } else
+    {
+      this.candidates[cellIndex] = this.calculateCandidates(cellIndex);
+    }
+  }
+
+  /**
+   * Determines whether the value is a candidate of the cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param value     : sudoku value
+   * @return boolean : true —> legal candidate; false —> value already in the row, column, or block
+   */
+  public boolean isCandidate(int cellIndex, int value)
+  {
+    return (this.candidates[cellIndex] & (1 << (value - 1))) != 0;
+  }
+
+  /**
+   * Determines whether the value of the cell also occurs in its row, column, or block.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return boolean : true —> conflicting value; false —> empty cell or no duplicate
+   */
+  public boolean isConflicting(int cellIndex)
+  {
+    int value = this.values[cellIndex];
+
+    return value > 0 && (this.getUnitCount(cellIndex / this.puzzleSize, value) > 1
+        || this.getUnitCount(this.puzzleSize + (cellIndex % this.puzzleSize), value) > 1
+        || this.getUnitCount((2 * this.puzzleSize) + this.cellPeers.getBlockId(cellIndex), value) > 1);
+  }
+
+  /**
+   * Determines whether any value occurs more than once in a row, column, or block.
+   *
+   * @return boolean : true —> puzzle has conflicts; false —> no conflicts
+   */
+  public boolean hasConflicts()
+  {
+    return this.duplicateCount > 0;
+  }
+
+  /**
+   * Retrieves the number of candidates of the cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return int : number of candidates (0 —> filled cell)
+   */
+  public int getCandidateCount(int cellIndex)
+  {
+    return Integer.bitCount(this.candidates[cellIndex]);
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Removes the value from the candidates of the cell's peers.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param value     : placed sudoku value
+   */
+  private void placeValue(int cellIndex, int value)
+  {
+    this.addUnitValue(cellIndex, value);
+    this.candidates[cellIndex] = 0;
+
+    int clearMask = ~(1 << (value - 1));
+
+    for (int peerIndex : this.cellPeers.getPeerCells(cellIndex))
+    {
+      this.candidates[peerIndex] &= clearMask;
+    }
+  }
+
+  /**
+   * Restores the value to the candidates of the empty peers that no longer see it in their row,
+   * column, or block.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param value     : erased sudoku value
+   */
+  private void eraseValue(int cellIndex, int value)
+  {
+    this.removeUnitValue(cellIndex, value);
+
+    int valueBit = 1 << (value - 1);
+
+    for (int peerIndex : this.cellPeers.getPeerCells(cellIndex))
+    {
+      if (this.values[peerIndex] == 0 && (this.getUnitValues(peerIndex) & valueBit) == 0)
+      {
+        this.candidates[peerIndex] |= valueBit;
+      }
+    }
+  }
+
+  /**
+   * Calculates the candidates of an empty cell from the values in its row, column, and block.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return int : candidate bitmask
+   */
+  private int calculateCandidates(int cellIndex)
+  {
+    return this.allCandidates & ~this.getUnitValues(cellIndex);
+  }
+
+  /**
+   * Retrieves the values in the row, column, and block of the cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return int : value bitmask
+   */
+  private int getUnitValues(int cellIndex)
+  {
+    return this.unitValues[cellIndex / this.puzzleSize]
+        | this.unitValues[this.puzzleSize + (cellIndex % this.puzzleSize)]
+        | this.unitValues[(2 * this.puzzleSize) + this.cellPeers.getBlockId(cellIndex)];
+  }
+
+  /**
+   * Counts the value in the row, column, and block of the cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param value     : sudoku value
+   */
+  private void addUnitValue(int cellIndex, int value)
+  {
+    this.updateUnitCount(cellIndex / this.puzzleSize, value, 1);
+    this.updateUnitCount(this.puzzleSize + (cellIndex % this.puzzleSize), value, 1);
+    this.updateUnitCount((2 * this.puzzleSize) + this.cellPeers.getBlockId(cellIndex), value, 1);
+  }
+
+  /**
+   * Uncounts the value in the row, column, and block of the cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param value     : sudoku value
+   */
+  private void removeUnitValue(int cellIndex, int value)
+  {
+    this.updateUnitCount(cellIndex / this.puzzleSize, value, -1);
+    this.updateUnitCount(this.puzzleSize + (cellIndex % this.puzzleSize), value, -1);
+    this.updateUnitCount((2 * this.puzzleSize) + this.cellPeers.getBlockId(cellIndex), value, -1);
+  }
+
+  /**
+   * Retrieves the count of the value in the unit.
+   *
+   * @param unit  : unit index (rows, then columns, then blocks)
+   * @param value : sudoku value
+   * @return int : number of cells in the unit that hold the value
+   */
+  private int getUnitCount(int unit, int value)
+  {
+    return this.unitCounts[(unit * (this.puzzleSize + 1)) + value];
+  }
+
+  /**
+   * Updates the count of the value in the unit, and {@link #duplicateCount} when the value starts or
+   * stops being duplicated. A unit keeps the value while any cell holds it, so duplicate (i.e.
+   * incorrect) values are handled.
+   *
+   * @param unit  : unit index (rows, then columns, then blocks)
+   * @param value : sudoku value
+   * @param delta : count change (1 —> placed; -1 —> erased)
+   */
+  private void updateUnitCount(int unit, int value, int delta)
+  {
+    int countIndex = (unit * (this.puzzleSize + 1)) + value;
+    boolean wasDuplicate = this.unitCounts[countIndex] > 1;
+
+    this.unitCounts[countIndex] += delta;
+
+    if (wasDuplicate != this.unitCounts[countIndex] > 1)
+    {
+      this.duplicateCount += wasDuplicate ? -1 : 1;
+    }
+
+    if (this.unitCounts[countIndex] > 0)
+    {
+      this.unitValues[unit] |= 1 << (value - 1);
+    } else
+    {
+      this.unitValues[unit] &= ~(1 << (value - 1));
+    }
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves the candidates of the cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return int : candidate bitmask (bit value — 1 —> candidate; 0 —> filled cell)
+   */
+  public int getCandidates(int cellIndex)
+  {
+    return this.candidates[cellIndex];
+  }
+
+  /**
+   * Retrieves {@link #puzzleSize}.
+   *
+   * @return int : puzzle size
+   */
+  public int getPuzzleSize()
+  {
+    return this.puzzleSize;
+  }
+}
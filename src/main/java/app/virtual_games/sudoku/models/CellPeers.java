@@ -0,0 +1,203 @@
+package app.virtual_games.sudoku.models;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed lookup tables for the cells that share a row, column, or block with each cell (i.e.
+ * its peers; 20 for a 9x9 puzzle). The tables only depend on the block size, so one immutable
+ * instance per block size is shared by every {@link Sudoku}.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public final class CellPeers
+{
+  private static final Map<Integer, CellPeers> CELL_PEERS = new ConcurrentHashMap<>();
+
+  private final int blockSize;
+  private final int puzzleSize;
+  private final int totalCells;
+
+  private final int[] cellBlocks;
+  private final int[][] rowCells;
+  private final int[][] colCells;
+  private final int[][] blockCells;
+  private final int[][] peerCells;
+
+  /**
+   * Initializes the unit and peer tables for the block size.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block (e.g. 3 —> 9x9 puzzle)
+   */
+  private CellPeers(int blockSize)
+  {
+    this.blockSize = blockSize;
+    this.puzzleSize = blockSize * blockSize;
+    this.totalCells = this.puzzleSize * this.puzzleSize;
+
+    this.cellBlocks = new int[this.totalCells];
+    this.rowCells = new int[this.puzzleSize][this.puzzleSize];
+    this.colCells = new int[this.puzzleSize][this.puzzleSize];
+    this.blockCells = new int[this.puzzleSize][this.puzzleSize];
+    this.peerCells = new int[this.totalCells][];
+
+    this.loadUnits();
+    this.loadPeers();
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Retrieves the shared tables for the block size, building them on first use.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block (e.g. 3 —> 9x9 puzzle)
+   * @return CellPeers : lookup tables
+   */
+  public static CellPeers forBlockSize(int blockSize)
+  {
+    return CELL_PEERS.computeIfAbsent(blockSize, CellPeers::new);
+  }
+
+  /**
+   * Retrieves the cell indices of a row, in column order.
+   *
+   * @param row : puzzle row
+   * @return int[] : cell indices (shared; do not modify)
+   */
+  public int[] getRowCells(int row)
+  {
+    return this.rowCells[row];
+  }
+
+  /**
+   * Retrieves the cell indices of a column, in row order.
+   *
+   * @param col : puzzle column
+   * @return int[] : cell indices (shared; do not modify)
+   */
+  public int[] getColCells(int col)
+  {
+    return this.colCells[col];
+  }
+
+  /**
+   * Retrieves the cell indices of a block, in row order.
+   *
+   * @param blockId : unique identifier for the sudoku block (e.g. 0 — 8 for a 9x9 puzzle)
+   * @return int[] : cell indices (shared; do not modify)
+   */
+  public int[] getBlockCells(int blockId)
+  {
+    return this.blockCells[blockId];
+  }
+
+  /**
+   * Retrieves the indices of the cells that share a row, column, or block with the cell (the cell
+   * itself excluded).
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return int[] : peer cell indices (shared; do not modify)
+   */
+  public int[] getPeerCells(int cellIndex)
+  {
+    return this.peerCells[cellIndex];
+  }
+
+  /**
+   * Retrieves the block id of the cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return int : cell's parent block id
+   */
+  public int getBlockId(int cellIndex)
+  {
+    return this.cellBlocks[cellIndex];
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Loads the cell indices of every row, column, and block.
+   */
+  private void loadUnits()
+  {
+    var blockCellCounts = new int[this.puzzleSize];
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      int row = cellIndex / this.puzzleSize;
+      int col = cellIndex % this.puzzleSize;
+      int blockId = ((row / this.blockSize) * this.blockSize) + (col / this.blockSize);
+
+      this.cellBlocks[cellIndex] = blockId;
+      this.rowCells[row][col] = cellIndex;
+      this.colCells[col][row] = cellIndex;
+      this.blockCells[blockId][blockCellCounts[blockId]++] = cellIndex;
+    }
+  }
+
+  /**
+   * Loads the peers of every cell: its row and column, plus the rest of its block.
+   */
+  private void loadPeers()
+  {
+    int peerCount = (2 * (this.puzzleSize - 1)) + ((this.blockSize - 1) * (this.blockSize - 1));
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      int row = cellIndex / this.puzzleSize;
+      int col = cellIndex % this.puzzleSize;
+      var peers = new int[peerCount];
+      var peerIndex = 0;
+
+      for (int peer : this.rowCells[row])
+      {
+        if (peer != cellIndex)
+        {
+          peers[peerIndex++] = peer;
+        }
+      }
+
+      for (int peer : this.colCells[col])
+      {
+        if (peer != cellIndex)
+        {
+          peers[peerIndex++] = peer;
+        }
+      }
+
+      for (int peer : this.blockCells[this.cellBlocks[cellIndex]])
+      {
+        if (peer / this.puzzleSize != row && peer % this.puzzleSize != col)
+        {
+          peers[peerIndex++] = peer; // not already covered by the row or column
+        }
+      }
+
+      this.peerCells[cellIndex] = peers;
+    }
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #blockSize}.
+   *
+   * @return int : block size
+   */
+  public int getBlockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * Retrieves {@link #puzzleSize}.
+   *
+   * @return int : puzzle size
+   */
+  public int getPuzzleSize()
+  {
+    return this.puzzleSize;
+  }
+}
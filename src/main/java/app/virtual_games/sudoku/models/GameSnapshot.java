@@ -0,0 +1,166 @@
+package app.virtual_games.sudoku.models;
+
+/**
+ * Immutable snapshot of a game in progress (i.e. initial puzzle, solution, contents of every cell,
+ * remaining hint cells, and elapsed playing time). Everything needed to rebuild the game screen is
+ * included, so a saved game resumes without fetching or solving a puzzle.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public final class GameSnapshot
+{
+  private final int blockSize;
+  private final PuzzleDifficulty difficulty;
+  private final long elapsedTime;
+
+  private final int[] initialPuzzle;
+  private final int[] solvedPuzzle;
+  private final int[] cellValues;
+  private final int[] cellNotes;
+  private final WritingTool[] writingTools;
+  private final int[] hintCells;
+
+  /**
+   * Initializes the snapshot.
+   *
+   * @throws IllegalArgumentException
+   * @param blockSize     : number of rows (or columns) in a sudoku block
+   * @param difficulty    : puzzle difficulty
+   * @param elapsedTime   : elapsed playing time in milliseconds
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @param solvedPuzzle  : flat array of correct sudoku values
+   * @param cellValues    : flat array of current cell values (0 —> empty cell)
+   * @param cellNotes     : flat array of current cell notes (0 —> no notes)
+   * @param writingTools  : flat array of cell writing tools
+   * @param hintCells     : indices of the cells that can still be revealed by a hint
+   */
+  public GameSnapshot(int blockSize, PuzzleDifficulty difficulty, long elapsedTime, int[] initialPuzzle,
+      int[] solvedPuzzle, int[] cellValues, int[] cellNotes, WritingTool[] writingTools, int[] hintCells)
+      throws IllegalArgumentException
+  {
+    int totalCells = blockSize * blockSize * blockSize * blockSize;
+
+    if (initialPuzzle.length != totalCells || solvedPuzzle.length != totalCells || cellValues.length != totalCells
+        || cellNotes.length != totalCells || writingTools.length != totalCells)
+    {
+      throw new IllegalArgumentException(String.format("Snapshot must have %d cells", totalCells));
+    }
+
+    this.blockSize = blockSize;
+    this.difficulty = difficulty;
+    this.elapsedTime = elapsedTime;
+
+    this.initialPuzzle = initialPuzzle.clone();
+    this.solvedPuzzle = solvedPuzzle.clone();
+    this.cellValues = cellValues.clone();
+    this.cellNotes = cellNotes.clone();
+    this.writingTools = writingTools.clone();
+    this.hintCells = hintCells.clone();
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #blockSize}.
+   *
+   * @return int : block size
+   */
+  public int getBlockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * Retrieves the number of cells in the puzzle.
+   *
+   * @return int : total cells
+   */
+  public int getTotalCells()
+  {
+    return this.initialPuzzle.length;
+  }
+
+  /**
+   * Retrieves {@link #difficulty}.
+   *
+   * @return PuzzleDifficulty : puzzle difficulty
+   */
+  public PuzzleDifficulty getDifficulty()
+  {
+    return this.difficulty;
+  }
+
+  /**
+   * Retrieves {@link #elapsedTime}.
+   *
+   * @return long : elapsed playing time in milliseconds
+   */
+  public long getElapsedTime()
+  {
+    return this.elapsedTime;
+  }
+
+  /**
+   * Retrieves a copy of {@link #initialPuzzle}.
+   *
+   * @return int[] : array of initial sudoku values
+   */
+  public int[] getInitialPuzzle()
+  {
+    return this.initialPuzzle.clone();
+  }
+
+  /**
+   * Retrieves a copy of {@link #solvedPuzzle}.
+   *
+   * @return int[] : array of correct sudoku values
+   */
+  public int[] getSolvedPuzzle()
+  {
+    return this.solvedPuzzle.clone();
+  }
+
+  /**
+   * Retrieves the current value of a cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return int : cell value (0 —> empty cell)
+   */
+  public int getCellValue(int cellIndex)
+  {
+    return this.cellValues[cellIndex];
+  }
+
+  /**
+   * Retrieves the current notes of a cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return int : cell notes (0 —> no notes)
+   */
+  public int getCellNotes(int cellIndex)
+  {
+    return this.cellNotes[cellIndex];
+  }
+
+  /**
+   * Retrieves the writing tool of a cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return WritingTool : cell writing tool
+   */
+  public WritingTool getWritingTool(int cellIndex)
+  {
+    return this.writingTools[cellIndex];
+  }
+
+  /**
+   * Retrieves a copy of {@link #hintCells}.
+   *
+   * @return int[] : indices of the remaining hint cells
+   */
+  public int[] getHintCells()
+  {
+    return this.hintCells.clone();
+  }
+}
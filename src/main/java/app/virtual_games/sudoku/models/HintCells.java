@@ -0,0 +1,132 @@
+package app.virtual_games.sudoku.models;
+
+import java.util.Arrays;
+
+/**
+ * Set of the cells that can still be revealed by a hint, stored as a dense array of cell indices
+ * plus the position of each cell in that array (-1 —> not in the set). A removed cell is replaced by
+ * the last cell, so adding, removing, and picking a random cell are all O(1).
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class HintCells
+{
+  private final int[] cells;
+  private final int[] positions;
+
+  private int size;
+
+  /**
+   * Initializes the set with the given cells.
+   *
+   * @param totalCells : number of cells in the puzzle
+   * @param hintCells  : indices of the hint cells
+   */
+  public HintCells(int totalCells, int[] hintCells)
+  {
+    this.cells = new int[totalCells];
+    this.positions = new int[totalCells];
+
+    Arrays.fill(this.positions, -1);
+
+    for (int cellIndex : hintCells)
+    {
+      this.add(cellIndex);
+    }
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Adds a cell to the set.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   */
+  public void add(int cellIndex)
+  {
+    if (this.positions[cellIndex] < 0)
+    {
+      this.cells[this.size] = cellIndex;
+      this.positions[cellIndex] = this.size++;
+    }
+  }
+
+  /**
+   * Removes a cell from the set, moving the last cell into its position.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return boolean : true —> cell removed; false —> cell not in the set
+   */
+  public boolean remove(int cellIndex)
+  {
+    int position = this.positions[cellIndex];
+
+    if (position < 0)
+    {
+      return false;
+    }
+
+    int lastCell = this.cells[--this.size];
+
+    this.cells[position] = lastCell;
+    this.positions[lastCell] = position;
+    this.positions[cellIndex] = -1;
+
+    return true;
+  }
+
+  /**
+   * Determines whether the cell is in the set.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return boolean : true —> hint cell; false —> not a hint cell
+   */
+  public boolean contains(int cellIndex)
+  {
+    return this.positions[cellIndex] >= 0;
+  }
+
+  /**
+   * Retrieves the cell at a position of the set (e.g. a random position).
+   *
+   * @param position : position in the set (0 — size — 1)
+   * @return int : index of the cell in the puzzle array
+   */
+  public int get(int position)
+  {
+    return this.cells[position];
+  }
+
+  /**
+   * Determines whether the set is empty.
+   *
+   * @return boolean : true —> no hint cells left; false —> hint cells left
+   */
+  public boolean isEmpty()
+  {
+    return this.size == 0;
+  }
+
+  /**
+   * Copies the cells of the set into an array.
+   *
+   * @return int[] : indices of the hint cells
+   */
+  public int[] toArray()
+  {
+    return Arrays.copyOf(this.cells, this.size);
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #size}.
+   *
+   * @return int : number of hint cells
+   */
+  public int getSize()
+  {
+    return this.size;
+  }
+}
@@ -0,0 +1,227 @@
+package app.virtual_games.sudoku.models;
+
+/**
+ * Bounded undo/redo journal of sudoku moves. Each move (i.e. cell index, writing tool, old and new
+ * value, old and new notes) is packed into a single {@code long} of a ring buffer, so recording
+ * never allocates, undo and redo are O(1), and the journal's memory stays fixed however long the
+ * session is. Once the buffer is full, the oldest moves are overwritten.
+ *
+ * Packed layout (low bits first) —> new notes (5 bits), old notes (5 bits), new value (5 bits), old
+ * value (5 bits), writing tool ordinal (2 bits), cell index (10 bits).
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class MoveJournal
+{
+  public static final long NO_MOVE = -1L;
+
+  private static final int DEFAULT_CAPACITY = 4096;
+  private static final int VALUE_BITS = 5;
+  private static final int VALUE_MASK = (1 << VALUE_BITS) - 1;
+  private static final int TOOL_BITS = 2;
+  private static final int TOOL_MASK = (1 << TOOL_BITS) - 1;
+  private static final int TOOL_SHIFT = 4 * VALUE_BITS;
+  private static final int CELL_SHIFT = TOOL_SHIFT + TOOL_BITS;
+
+  private final long[] moves;
+
+  private int cursor;
+  private int undoCount;
+  private int redoCount;
+
+  /**
+   * Initializes a journal that keeps the last 4096 moves.
+   */
+  public MoveJournal()
+  {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Initializes the ring buffer.
+   *
+   * @throws IllegalArgumentException
+   * @param capacity : maximum number of undoable moves
+   */
+  public MoveJournal(int capacity) throws IllegalArgumentException
+  {
+    if (capacity < 1)
+    {
+      throw new IllegalArgumentException(String.format("Unsupported journal capacity %d", capacity));
+    }
+
+    this.moves = new long[capacity];
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Records a move and discards every redoable move.
+   *
+   * @param cellIndex   : index of the cell in the puzzle array
+   * @param writingTool : writing tool of the cell when the move was made
+   * @param oldValue    : previous cell value (0 —> empty cell)
+   * @param newValue    : new cell value (0 —> empty cell)
+   * @param oldNotes    : previous cell notes (0 —> no notes)
+   * @param newNotes    : new cell notes (0 —> no notes)
+   */
+  public void record(int cellIndex, WritingTool writingTool, int oldValue, int newValue, int oldNotes, int newNotes)
+  {
+    this.moves[this.cursor] = ((long) cellIndex << CELL_SHIFT) | ((long) writingTool.ordinal() << TOOL_SHIFT)
+        | ((long) oldValue << (3 * VALUE_BITS)) | ((long) newValue << (2 * VALUE_BITS))
+        | ((long) oldNotes << VALUE_BITS) | newNotes;
+
+    this.cursor = (this.cursor + 1) % this.moves.length;
+    this.undoCount = Math.min(this.undoCount + 1, this.moves.length);
+    this.redoCount = 0;
+  }
+
+  /**
+   * Steps back over the latest move.
+   *
+   * @return long : packed move to revert; {@link #NO_MOVE} —> nothing to undo
+   */
+  public long undo()
+  {
+    if (this.undoCount == 0)
+    {
+      return NO_MOVE;
+    }
+
+    this.cursor = (this.cursor + this.moves.length - 1) % this.moves.length;
+    this.undoCount--;
+    this.redoCount++;
+
+    return this.moves[this.cursor];
+  }
+
+  /**
+   * Steps forward over the latest undone move.
+   *
+   * @return long : packed move to reapply; {@link #NO_MOVE} —> nothing to redo
+   */
+  public long redo()
+  {
+    if (this.redoCount == 0)
+    {
+      return NO_MOVE;
+    }
+
+    long move = this.moves[this.cursor];
+
+    this.cursor = (this.cursor + 1) % this.moves.length;
+    this.redoCount--;
+    this.undoCount++;
+
+    return move;
+  }
+
+  /**
+   * Forgets every move (e.g. after a restart).
+   */
+  public void clear()
+  {
+    this.cursor = 0;
+    this.undoCount = 0;
+    this.redoCount = 0;
+  }
+
+  /**
+   * Determines whether there's a move to undo.
+   *
+   * @return boolean : true —> undo possible; false —> nothing to undo
+   */
+  public boolean canUndo()
+  {
+    return this.undoCount > 0;
+  }
+
+  /**
+   * Determines whether there's a move to redo.
+   *
+   * @return boolean : true —> redo possible; false —> nothing to redo
+   */
+  public boolean canRedo()
+  {
+    return this.redoCount > 0;
+  }
+
+  /**
+   * Unpacks the cell index of a move.
+   *
+   * @param move : packed move
+   * @return int : index of the cell in the puzzle array
+   */
+  public static int getCellIndex(long move)
+  {
+    return (int) (move >>> CELL_SHIFT);
+  }
+
+  /**
+   * Unpacks the writing tool of a move.
+   *
+   * @param move : packed move
+   * @return WritingTool : writing tool of the cell when the move was made
+   */
+  public static WritingTool getWritingTool(long move)
+  {
+    return WritingTool.values()[(int) (move >>> TOOL_SHIFT) & TOOL_MASK];
+  }
+
+  /**
+   * Unpacks the previous cell value of a move.
+   *
+   * @param move : packed move
+   * @return int : previous cell value
+   */
+  public static int getOldValue(long move)
+  {
+    return (int) (move >>> (3 * VALUE_BITS)) & VALUE_MASK;
+  }
+
+  /**
+   * Unpacks the new cell value of a move.
+   *
+   * @param move : packed move
+   * @return int : new cell value
+   */
+  public static int getNewValue(long move)
+  {
+    return (int) (move >>> (2 * VALUE_BITS)) & VALUE_MASK;
+  }
+
+  /**
+   * Unpacks the previous cell notes of a move.
+   *
+   * @param move : packed move
+   * @return int : previous cell notes
+   */
+  public static int getOldNotes(long move)
+  {
+    return (int) (move >>> VALUE_BITS) & VALUE_MASK;
+  }
+
+  /**
+   * Unpacks the new cell notes of a move.
+   *
+   * @param move : packed move
+   * @return int : new cell notes
+   */
+  public static int getNewNotes(long move)
+  {
+    return (int) move & VALUE_MASK;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves the number of moves the journal can hold.
+   *
+   * @return int : capacity
+   */
+  public int getCapacity()
+  {
+    return this.moves.length;
+  }
+}
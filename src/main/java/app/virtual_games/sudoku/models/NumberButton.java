@@ -19,12 +19,12 @@ public class NumberButton extends Button
    * Loads the button's base styling, display information, and event handler. Initializes
    * {@link #value}.
    *
-   * @param value : value of 1-9
+   * @param value : value of 1 — puzzle size
    */
   public NumberButton(int value)
   {
     this.value = value;
-    this.setText(Integer.toString(value));
+    this.setText(ValueSymbols.toSymbol(value));
     this.setOnAction(new NumberButtonHandler());
     this.addStyling("game-button", "number-button");
   }
@@ -56,7 +56,7 @@ public class NumberButton extends Button
   /**
    * Retrieves {@link #value}.
    *
-   * @return int : value of 1-9
+   * @return int : value of 1 — puzzle size
    */
   public int getValue()
   {
@@ -54,6 +54,19 @@ public enum PuzzleDifficulty
     return PuzzleDifficulty.valueOf(label.toUpperCase());
   }
 
+  /**
+   * Retrieves enum instance with puzzle difficulty identifier.
+   *
+   * @param id : identifier for puzzle difficulty
+   * @return PuzzleDifficulty : enum instance
+   * @throws IllegalArgumentException
+   */
+  public static PuzzleDifficulty getEnumInstance(int id) throws IllegalArgumentException
+  {
+    return Arrays.stream(PuzzleDifficulty.values()).filter(difficulty -> difficulty.id == id).findAny()
+        .orElseThrow(() -> new IllegalArgumentException(String.format("Unknown puzzle difficulty %d", id)));
+  }
+
   /** Getters and Setters **/
 
   /**
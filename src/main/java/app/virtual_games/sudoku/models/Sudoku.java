@@ -1,17 +1,19 @@
 package app.virtual_games.sudoku.models;
 
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import app.virtual_games.sudoku.controllers.ApiController;
-import app.virtual_games.sudoku.controllers.SolutionController;
 import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
 import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.solvers.Hint;
+import app.virtual_games.sudoku.solvers.SolutionCount;
+import app.virtual_games.sudoku.sources.PuzzleBank;
+import app.virtual_games.sudoku.sources.PuzzleSource;
 
 /**
  * Sudoku puzzle.
@@ -21,102 +23,133 @@ import app.virtual_games.sudoku.models.ApiResponse.Square;
  */
 public class Sudoku
 {
-  private static final int PUZZLE_SIZE = 9;
-  private static final int BLOCK_SIZE = 3;
-  private static final int TOTAL_CELLS = 81;
+  private static final int DEFAULT_BLOCK_SIZE = 3;
+  private static final Random RANDOM = new Random();
 
-  private ArrayList<Square> correctCells;
-  private HashMap<Integer, Integer> valueOccurrences;
-  private ArrayList<CellPosition> hintCells;
+  private final int blockSize;
+  private final int puzzleSize;
+  private final int totalCells;
+  private final CellPeers cellPeers;
+
+  private BitSet correctCells;
+  private ValueOccurrences valueOccurrences;
+  private HintCells hintCells;
   private SudokuCell currentClickedCell;
   private SudokuCell currentHintCell;
+  private ArrayList<SudokuCell> hintSupportCells;
 
   private int cellsRemaining;
 
   private int[] initialPuzzle;
   private int[] solvedPuzzle;
   private SudokuBlock[] userPuzzle;
-
+  private SudokuCell[] sudokuCells;
+  private BitSet[] valueCells;
+  private CandidateGrid candidateGrid;
+  private ArrayList<SudokuCell> highlightedCells;
+  private MoveJournal moveJournal;
+  private boolean isJournalPaused;
+  private boolean isShowingConflicts;
+
+  private SolutionCount solutionCount;
   private boolean isSolved;
 
   /**
-   * Initializes a sudoku puzzle with the corresponding difficulty.
+   * Initializes a 9x9 sudoku puzzle with the corresponding difficulty from the sudoku API.
    *
    * @throws SudokuPuzzleException
    * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
    */
   public Sudoku(int difficultyId) throws SudokuPuzzleException
   {
-    this.correctCells = (ArrayList<Square>) ApiController.getSudokuPuzzle(difficultyId);
-    this.valueOccurrences = (HashMap<Integer, Integer>) this.initializeValueOccurrences();
-    this.cellsRemaining = TOTAL_CELLS - this.correctCells.size();
-    this.initialPuzzle = this.buildInitialPuzzle();
-
-    this.solvedPuzzle = SolutionController.solvePuzzle(this);
-    this.isSolved = this.solvedPuzzle != null;
-    this.userPuzzle = this.loadUserPuzzle();
-    this.hintCells = this.initializeHintCells();
+    this(DEFAULT_BLOCK_SIZE, ApiController.getSudokuPuzzle(difficultyId));
   }
 
-  /** Private Helper Methods **/
-
   /**
-   * Initializes occurrence counts for each sudoku value.
+   * Initializes a sudoku puzzle with the corresponding difficulty from the puzzle source.
    *
-   * @return Map<Integer, Integer> : map of value occurrences
+   * @throws SudokuPuzzleException
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @param puzzleSource : provider of new sudoku puzzles (e.g. a local generator)
    */
-  private Map<Integer, Integer> initializeValueOccurrences()
+  public Sudoku(int difficultyId, PuzzleSource puzzleSource) throws SudokuPuzzleException
   {
-    var occurrencesMap = new HashMap<Integer, Integer>();
-
-    this.correctCells.forEach(cell ->
-    {
-      int occurrences = occurrencesMap.containsKey(cell.getValue()) ? occurrencesMap.get(cell.getValue()) : 0;
-      occurrencesMap.put(cell.getValue(), occurrences + 1);
-    });
+    this(puzzleSource.getPuzzle(difficultyId));
+  }
 
-    return occurrencesMap;
+  /**
+   * Initializes a sudoku puzzle from a record of the puzzle bank, without any JSON, network, or
+   * solver work.
+   *
+   * @param puzzleBank  : memory—mapped bank of checked and solved puzzles
+   * @param puzzleIndex : index of the record in the bank
+   */
+  public Sudoku(PuzzleBank puzzleBank, int puzzleIndex)
+  {
+    this(puzzleBank.getPuzzle(puzzleIndex));
   }
 
   /**
-   * Builds flat array of initial sudoku values.
+   * Initializes a sudoku puzzle of any size from its initial cells (e.g. block size 2 —> 4x4, 3 —>
+   * 9x9, 4 —> 16x16, 5 —> 25x25).
    *
-   * @return int[] : array of initial sudoku values
+   * @throws IllegalArgumentException
+   * @param blockSize    : number of rows (or columns) in a sudoku block
+   * @param initialCells : list of initial sudoku cells
    */
-  private int[] buildInitialPuzzle()
+  public Sudoku(int blockSize, List<Square> initialCells) throws IllegalArgumentException
   {
-    return IntStream.range(0, TOTAL_CELLS).map(this::getInitialCellValue).toArray();
+    this(new SudokuPuzzle(blockSize, initialCells));
   }
 
   /**
-   * Retrieves the cell's initial value (0 —> empty cell; 1 — 9 —> non—empty cell).
+   * Initializes a sudoku from a saved game, restoring the contents of every cell and the remaining
+   * hint cells without fetching or solving the puzzle again.
    *
-   * @param cellIndex : index of cell in the puzzle array
-   * @return int : cell value
+   * @throws IllegalArgumentException
+   * @param snapshot : snapshot of a game in progress
    */
-  private int getInitialCellValue(int cellIndex)
+  public Sudoku(GameSnapshot snapshot) throws IllegalArgumentException
   {
-    Optional<Square> initialCell = this.correctCells.stream()
-        .filter(cell -> this.isInitialCellPosition(cell, cellIndex)).findAny();
+    this(new SudokuPuzzle(snapshot.getBlockSize(), snapshot.getInitialPuzzle(), snapshot.getSolvedPuzzle()));
 
-    return initialCell.isPresent() ? (int) initialCell.get().getValue() : 0;
+    this.restoreSudokuCells(snapshot);
   }
 
   /**
-   * Determines whether cell index corresponds to initial cell.
+   * Initializes a sudoku from an already checked and solved puzzle, so only the JavaFX state is
+   * built here. Puzzles without a unique solution are rejected (i.e. {@link #isSolved} is false)
+   * before any {@link SudokuCell} is built.
    *
-   * @param cell      : current cell
-   * @param cellIndex : index of the cell in the puzzle array
-   * @return boolean : true —> initial cell; false —> not initial cell
+   * @param puzzle : checked and solved sudoku puzzle
    */
-  private boolean isInitialCellPosition(Square cell, int cellIndex)
+  public Sudoku(SudokuPuzzle puzzle)
   {
-    boolean isSameRow = cell.getY() == (cellIndex / PUZZLE_SIZE);
-    boolean isSameCol = cell.getX() == (cellIndex % PUZZLE_SIZE);
-
-    return isSameRow && isSameCol;
+    this.blockSize = puzzle.getBlockSize();
+    this.puzzleSize = puzzle.getPuzzleSize();
+    this.totalCells = puzzle.getTotalCells();
+    this.cellPeers = CellPeers.forBlockSize(this.blockSize);
+
+    this.initialPuzzle = puzzle.getInitialPuzzle();
+    this.correctCells = this.initializeCorrectCells();
+    this.valueOccurrences = new ValueOccurrences(this.puzzleSize, puzzle.getInitialCells());
+    this.cellsRemaining = this.totalCells - this.correctCells.cardinality();
+
+    this.solutionCount = puzzle.getSolutionCount();
+    this.solvedPuzzle = puzzle.getSolvedPuzzle();
+    this.isSolved = puzzle.getIsSolved();
+    this.userPuzzle = this.isSolved ? this.loadUserPuzzle() : null;
+    this.sudokuCells = this.isSolved ? this.loadSudokuCells() : null;
+    this.valueCells = this.isSolved ? this.loadValueCells() : null;
+    this.candidateGrid = this.isSolved ? new CandidateGrid(this.blockSize, this.initialPuzzle) : null;
+    this.highlightedCells = new ArrayList<>();
+    this.moveJournal = new MoveJournal();
+    this.hintCells = this.initializeHintCells();
+    this.hintSupportCells = new ArrayList<>();
   }
 
+  /** Private Helper Methods **/
+
   /**
    * Loads array with {@link SudokuBlock} objects.
    *
@@ -124,7 +157,7 @@ public class Sudoku
    */
   private SudokuBlock[] loadUserPuzzle()
   {
-    return IntStream.range(0, PUZZLE_SIZE).mapToObj(this::getSudokuBlock).toArray(SudokuBlock[]::new);
+    return IntStream.range(0, this.puzzleSize).mapToObj(this::getSudokuBlock).toArray(SudokuBlock[]::new);
   }
 
   /**
@@ -139,25 +172,60 @@ public class Sudoku
   }
 
   /**
-   * Retrieves the positions of all the hints cells (i.e. all the empty cells).
+   * Indexes the cells of {@link #userPuzzle} by cell index, so any cell is found in O(1).
    *
-   * @return ArrayList<CellPosition> : list of hint cell positions
+   * @return SudokuCell[] : flat array of SudokuCell instances
    */
-  private ArrayList<CellPosition> initializeHintCells()
+  private SudokuCell[] loadSudokuCells()
   {
-    return IntStream.range(0, TOTAL_CELLS).filter(cellIndex -> this.initialPuzzle[cellIndex] == 0)
-        .mapToObj(this::getCellPosition).collect(Collectors.toCollection(ArrayList::new));
+    var cells = new SudokuCell[this.totalCells];
+
+    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    {
+      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
+      {
+        cells[sudokuCell.getCellIndex()] = sudokuCell;
+      }
+    }
+
+    return cells;
   }
 
   /**
-   * Retrieves the {@link CellPosition} for the cell index.
+   * Indexes the cells by their current value, so the occurrences of a value are found without
+   * scanning the puzzle.
    *
-   * @param cellIndex : index of the cell in the puzzle array
-   * @return CellPosition : position of the cell
+   * @return BitSet[] : cell indices per value (index 0 —> unused)
+   */
+  private BitSet[] loadValueCells()
+  {
+    var cells = new BitSet[this.puzzleSize + 1];
+
+    for (var value = 1; value <= this.puzzleSize; value++)
+    {
+      cells[value] = new BitSet(this.totalCells);
+    }
+
+    for (SudokuCell sudokuCell : this.sudokuCells)
+    {
+      if (sudokuCell.getCurrentValue() > 0)
+      {
+        cells[sudokuCell.getCurrentValue()].set(sudokuCell.getCellIndex());
+      }
+    }
+
+    return cells;
+  }
+
+  /**
+   * Retrieves all the hints cells (i.e. all the empty cells).
+   *
+   * @return HintCells : set of hint cells
    */
-  private CellPosition getCellPosition(int cellIndex)
+  private HintCells initializeHintCells()
   {
-    return new CellPosition(cellIndex / PUZZLE_SIZE, cellIndex % PUZZLE_SIZE);
+    return new HintCells(this.totalCells,
+        IntStream.range(0, this.totalCells).filter(cellIndex -> this.initialPuzzle[cellIndex] == 0).toArray());
   }
 
   /**
@@ -169,7 +237,7 @@ public class Sudoku
    */
   private Square toSquare(int cellIndex, int cellValue)
   {
-    return new Square(cellIndex % PUZZLE_SIZE, cellIndex / PUZZLE_SIZE, cellValue);
+    return new Square(cellIndex % this.puzzleSize, cellIndex / this.puzzleSize, cellValue);
   }
 
   /**
@@ -177,24 +245,21 @@ public class Sudoku
    */
   private void resetUserPuzzle()
   {
-    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    for (SudokuCell sudokuCell : this.sudokuCells)
     {
-      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
+      if (!this.isInitialCellPosition(sudokuCell.getCellIndex()))
       {
-        if (!this.isInitialCellPosition(sudokuCell.getCellIndex()))
-        {
-          sudokuCell.textProperty().removeListener(sudokuCell.getTextListener());
-
-          sudokuCell.setText("");
-          sudokuCell.setCurrentValue(0);
-          sudokuCell.setNotes(0);
-          sudokuCell.setEditable(true);
-          sudokuCell.setWritingTool(WritingTool.PEN);
-          sudokuCell.removeStyling("incorrect-cell-value", "pencil", "pen");
-          sudokuCell.addStyling("pen");
-
-          sudokuCell.textProperty().addListener(sudokuCell.getTextListener());
-        }
+        sudokuCell.textProperty().removeListener(sudokuCell.getTextListener());
+
+        sudokuCell.setText("");
+        sudokuCell.setCurrentValue(0);
+        sudokuCell.setNotes(0);
+        sudokuCell.setEditable(true);
+        sudokuCell.setWritingTool(WritingTool.PEN);
+        sudokuCell.removeStyling("incorrect-cell-value", "pencil", "pen");
+        sudokuCell.addStyling("pen");
+
+        sudokuCell.textProperty().addListener(sudokuCell.getTextListener());
       }
     }
   }
@@ -225,6 +290,8 @@ public class Sudoku
     {
       sudokuCell.highlightIncorrectOccurrence();
     }
+
+    this.highlightedCells.add(sudokuCell);
   }
 
   /**
@@ -241,6 +308,8 @@ public class Sudoku
     {
       sudokuCell.highlightRowColumnBlockCell();
     }
+
+    this.highlightedCells.add(sudokuCell);
   }
 
   /**
@@ -252,42 +321,153 @@ public class Sudoku
    */
   private SudokuCell getSudokuCell(int row, int col)
   {
-    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    return this.sudokuCells[(row * this.puzzleSize) + col];
+  }
+
+  /**
+   * Restores the contents, styling, and correctness bookkeeping (i.e. {@link #correctCells},
+   * {@link #valueOccurrences}, and {@link #cellsRemaining}) of a cell for an undone or redone move, or
+   * a restored game.
+   *
+   * @param sudokuCell  : sudoku cell
+   * @param writingTool : writing tool of the cell
+   * @param value       : cell value (0 —> empty cell)
+   * @param notes       : cell notes (0 —> no notes)
+   */
+  private void applyCellState(SudokuCell sudokuCell, WritingTool writingTool, int value, int notes)
+  {
+    boolean wasCorrect = sudokuCell.getCurrentValue() > 0 && sudokuCell.isCorrect();
+    int oldValue = sudokuCell.getCurrentValue();
+
+    sudokuCell.textProperty().removeListener(sudokuCell.getTextListener());
+
+    sudokuCell.setWritingTool(writingTool);
+    sudokuCell.removeStyling("incorrect-cell-value", "pencil", "pen");
+    sudokuCell.addStyling(writingTool.getClassName());
+    sudokuCell.setCurrentValue(value);
+    sudokuCell.setNotes(notes);
+    sudokuCell.setText(value > 0 ? ValueSymbols.toSymbol(value) : notes > 0 ? ValueSymbols.toSymbol(notes) : "");
+
+    boolean isCorrect = value > 0 && sudokuCell.isCorrect();
+
+    if (value > 0 && !isCorrect)
     {
-      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
+      sudokuCell.addStyling("incorrect-cell-value");
+    }
+
+    sudokuCell.setEditable(!isCorrect);
+    sudokuCell.textProperty().addListener(sudokuCell.getTextListener());
+
+    if (wasCorrect && !isCorrect)
+    {
+      this.removeCorrectCell(sudokuCell);
+      this.valueOccurrences.decrement(oldValue);
+      this.cellsRemaining++;
+    } else if (!wasCorrect && isCorrect)
+    {
+      this.addCorrectCell(sudokuCell);
+      this.valueOccurrences.increment(value);
+      this.cellsRemaining--;
+    }
+  }
+
+  /**
+   * Restores the contents of the non—initial cells and {@link #hintCells} from a saved game.
+   *
+   * @param snapshot : snapshot of a game in progress
+   */
+  private void restoreSudokuCells(GameSnapshot snapshot)
+  {
+    for (SudokuCell sudokuCell : this.sudokuCells)
+    {
+      int cellIndex = sudokuCell.getCellIndex();
+
+      if (!this.isInitialCellPosition(cellIndex) && (snapshot.getCellValue(cellIndex) > 0
+          || snapshot.getCellNotes(cellIndex) > 0 || snapshot.getWritingTool(cellIndex) != WritingTool.PEN))
       {
-        if (sudokuCell.getPuzzleRow() == row && sudokuCell.getPuzzleCol() == col)
-        {
-          return sudokuCell;
-        }
+        this.applyCellState(sudokuCell, snapshot.getWritingTool(cellIndex), snapshot.getCellValue(cellIndex),
+            snapshot.getCellNotes(cellIndex));
       }
     }
 
-    return null;
+    this.hintCells = new HintCells(this.totalCells, snapshot.getHintCells());
   }
 
   /**
-   * Retrieves a random index within {@link #hintCells}.
+   * Highlights the cell if its value also occurs in its row, column, or block, and unhighlights it
+   * otherwise.
    *
-   * @return Integer : random index
+   * @param cellIndex : index of the cell in the puzzle array
    */
-  private Integer generateRandomIndex()
+  private void updateConflictStyling(int cellIndex)
   {
-    return !this.hintCells.isEmpty() ? new Random().nextInt(this.hintCells.size()) : null;
+    if (this.candidateGrid.isConflicting(cellIndex))
+    {
+      this.sudokuCells[cellIndex].highlightConflictCell();
+    } else
+    {
+      this.sudokuCells[cellIndex].unhighlightConflictCell();
+    }
   }
 
   /**
-   * Retrieves the hint cell.
+   * Initializes {@link #correctCells} with the initial cells.
    *
-   * @param cellIndex : cell index
-   * @return SudokuCell : hint cell
+   * @return BitSet : correct cells by cell index
    */
-  private SudokuCell getHintCell(int cellIndex)
+  private BitSet initializeCorrectCells()
   {
-    int cellRow = this.hintCells.get(cellIndex).getRow();
-    int cellCol = this.hintCells.get(cellIndex).getCol();
+    var correctCells = new BitSet(this.totalCells);
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      if (this.initialPuzzle[cellIndex] > 0)
+      {
+        correctCells.set(cellIndex);
+      }
+    }
 
-    return this.getSudokuCell(cellRow, cellCol);
+    return correctCells;
+  }
+
+  /**
+   * Removes a sudoku cell from the correct cells in O(1) (e.g. an undone or erased value).
+   *
+   * @param sudokuCell : sudoku cell
+   */
+  private void removeCorrectCell(SudokuCell sudokuCell)
+  {
+    this.correctCells.clear(sudokuCell.getCellIndex());
+  }
+
+  /**
+   * Retrieves a random cell of {@link #hintCells}.
+   *
+   * @return SudokuCell : random hint cell; null —> no hint cells left
+   */
+  private SudokuCell getRandomHintCell()
+  {
+    return !this.hintCells.isEmpty() ? this.sudokuCells[this.hintCells.get(RANDOM.nextInt(this.hintCells.getSize()))]
+        : null;
+  }
+
+  /**
+   * Retrieves the cell deduced by the hint, as long as it can still be revealed (i.e. it's a hint cell
+   * that hasn't been filled correctly since the hint was requested).
+   *
+   * @param hint : next logical deduction; null —> no deduction
+   * @return SudokuCell : deduced cell; null —> hint no longer applies
+   */
+  private SudokuCell getDeducedCell(Hint hint)
+  {
+    if (hint == null || !this.hintCells.contains(hint.getCellIndex()))
+    {
+      return null;
+    }
+
+    SudokuCell deducedCell = this.sudokuCells[hint.getCellIndex()];
+
+    return deducedCell.getCurrentValue() > 0 && deducedCell.isCorrect() ? null : deducedCell;
   }
 
   /**
@@ -308,8 +488,12 @@ public class Sudoku
       hintCell.removeStyling("incorrect-cell-value");
     }
 
-    hintCell.setText(Integer.toString(this.solvedPuzzle[hintCell.getCellIndex()]));
+    this.isJournalPaused = true; // hints can't be undone
+
+    hintCell.setText(ValueSymbols.toSymbol(this.solvedPuzzle[hintCell.getCellIndex()]));
     hintCell.highlightHintCell();
+
+    this.isJournalPaused = false;
   }
 
   /**
@@ -319,10 +503,7 @@ public class Sudoku
    */
   private void updateCurrHintCell(SudokuCell hintCell)
   {
-    if (this.currentHintCell != null)
-    {
-      this.currentHintCell.unhighlightHintCell();
-    }
+    this.unhighlightHintCells();
 
     this.currentHintCell = hintCell;
   }
@@ -336,27 +517,25 @@ public class Sudoku
    */
   public void updateValueOccurrences(int cellValue)
   {
-    int occurrences = this.valueOccurrences.containsKey(cellValue) ? this.valueOccurrences.get(cellValue) : 0;
-
-    this.valueOccurrences.put(cellValue, occurrences + 1);
+    this.valueOccurrences.increment(cellValue);
   }
 
   /**
    * Resets the following variable(s): {@link #correctCells} {@link #valueOccurrences}
    * {@link #cellsRemaining} {@link #hintCells} {@link #currentClickedCell} {@link #currentHintCell}
-   * {@link #userPuzzle}
+   * {@link #hintSupportCells} {@link #moveJournal} {@link #userPuzzle}
    */
   public void restartPuzzle()
   {
-    this.correctCells = IntStream.range(0, TOTAL_CELLS).filter(cellIndex -> this.initialPuzzle[cellIndex] > 0)
+    this.correctCells = this.initializeCorrectCells();
+    this.valueOccurrences.reset(IntStream.range(0, this.totalCells).filter(this.correctCells::get)
         .mapToObj(cellIndex -> this.toSquare(cellIndex, this.initialPuzzle[cellIndex]))
-        .collect(Collectors.toCollection(ArrayList::new));
-
-    this.valueOccurrences = (HashMap<Integer, Integer>) this.initializeValueOccurrences();
-    this.cellsRemaining = TOTAL_CELLS - this.correctCells.size();
+        .collect(Collectors.toList()));
+    this.cellsRemaining = this.totalCells - this.correctCells.cardinality();
     this.hintCells = this.initializeHintCells();
     this.currentClickedCell = null;
-    this.currentHintCell = null;
+    this.unhighlightHintCells();
+    this.moveJournal.clear();
 
     this.resetUserPuzzle();
   }
@@ -366,17 +545,14 @@ public class Sudoku
    */
   public void hideSudokuCells()
   {
-    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    for (SudokuCell sudokuCell : this.sudokuCells)
     {
-      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
-      {
-        sudokuCell.textProperty().removeListener(sudokuCell.getTextListener());
+      sudokuCell.textProperty().removeListener(sudokuCell.getTextListener());
 
-        sudokuCell.setText("");
-        sudokuCell.setDisable(true);
+      sudokuCell.setText("");
+      sudokuCell.setDisable(true);
 
-        sudokuCell.textProperty().addListener(sudokuCell.getTextListener());
-      }
+      sudokuCell.textProperty().addListener(sudokuCell.getTextListener());
     }
   }
 
@@ -385,23 +561,20 @@ public class Sudoku
    */
   public void showSudokuCells()
   {
-    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    for (SudokuCell sudokuCell : this.sudokuCells)
     {
-      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
-      {
-        sudokuCell.textProperty().removeListener(sudokuCell.getTextListener());
+      sudokuCell.textProperty().removeListener(sudokuCell.getTextListener());
 
-        if (sudokuCell.getCurrentValue() > 0)
-        {
-          sudokuCell.setText(Integer.toString(sudokuCell.getCurrentValue()));
-        } else if (sudokuCell.getNotes() > 0)
-        {
-          sudokuCell.setText(Integer.toString(sudokuCell.getNotes()));
-        }
-
-        sudokuCell.setDisable(false);
-        sudokuCell.textProperty().addListener(sudokuCell.getTextListener());
+      if (sudokuCell.getCurrentValue() > 0)
+      {
+        sudokuCell.setText(ValueSymbols.toSymbol(sudokuCell.getCurrentValue()));
+      } else if (sudokuCell.getNotes() > 0)
+      {
+        sudokuCell.setText(ValueSymbols.toSymbol(sudokuCell.getNotes()));
       }
+
+      sudokuCell.setDisable(false);
+      sudokuCell.textProperty().addListener(sudokuCell.getTextListener());
     }
   }
 
@@ -428,71 +601,260 @@ public class Sudoku
    */
   public void highlightOccurrences(int clickedValue)
   {
-    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    if (clickedValue < 1 || clickedValue > this.puzzleSize)
     {
-      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
+      return;
+    }
+
+    BitSet occurrences = this.valueCells[clickedValue];
+
+    for (int cellIndex = occurrences.nextSetBit(0); cellIndex >= 0; cellIndex = occurrences.nextSetBit(cellIndex + 1))
+    {
+      this.highlightCellOccurrence(this.sudokuCells[cellIndex]);
+    }
+  }
+
+  /**
+   * Highlights the row, column, and block of the clicked cell (i.e. the clicked cell and its peers).
+   */
+  public void highlightRowColumnBlock()
+  {
+    this.highlightCell(this.currentClickedCell);
+
+    for (int peerIndex : this.cellPeers.getPeerCells(this.currentClickedCell.getCellIndex()))
+    {
+      this.highlightCell(this.sudokuCells[peerIndex]);
+    }
+  }
+
+  /**
+   * Unhighlights the highlighted sudoku cells, the current hint cell, and the cells that supported
+   * it.
+   */
+  public void unhighlightSudokuPuzzle()
+  {
+    for (SudokuCell sudokuCell : this.highlightedCells)
+    {
+      sudokuCell.unhighlightCell();
+    }
+
+    this.highlightedCells.clear();
+
+    if (this.currentHintCell != null)
+    {
+      this.currentHintCell.unhighlightCell();
+    }
+
+    for (SudokuCell supportingCell : this.hintSupportCells)
+    {
+      supportingCell.unhighlightHintSupportCell();
+    }
+
+    this.hintSupportCells.clear();
+  }
+
+  /**
+   * Records a cell's move in {@link #moveJournal}, unless the cell is unchanged or a hint is being
+   * loaded.
+   *
+   * @param sudokuCell : updated sudoku cell
+   * @param oldValue   : cell value before the move (0 —> empty cell)
+   * @param oldNotes   : cell notes before the move (0 —> no notes)
+   */
+  public void recordMove(SudokuCell sudokuCell, int oldValue, int oldNotes)
+  {
+    if (!this.isJournalPaused && (oldValue != sudokuCell.getCurrentValue() || oldNotes != sudokuCell.getNotes()))
+    {
+      this.moveJournal.record(sudokuCell.getCellIndex(), sudokuCell.getWritingTool(), oldValue,
+          sudokuCell.getCurrentValue(), oldNotes, sudokuCell.getNotes());
+    }
+  }
+
+  /**
+   * Reverts the latest move. Moves whose cell has changed since (e.g. filled by a hint) are skipped.
+   *
+   * @return SudokuCell : reverted cell; null —> nothing to undo
+   */
+  public SudokuCell undoMove()
+  {
+    for (long move = this.moveJournal.undo(); move != MoveJournal.NO_MOVE; move = this.moveJournal.undo())
+    {
+      SudokuCell sudokuCell = this.sudokuCells[MoveJournal.getCellIndex(move)];
+
+      if (sudokuCell.getCurrentValue() == MoveJournal.getNewValue(move)
+          && sudokuCell.getNotes() == MoveJournal.getNewNotes(move))
       {
-        if (sudokuCell.getCurrentValue() == clickedValue)
-        {
-          this.highlightCellOccurrence(sudokuCell);
-        }
+        this.applyCellState(sudokuCell, MoveJournal.getWritingTool(move), MoveJournal.getOldValue(move),
+            MoveJournal.getOldNotes(move));
+
+        return sudokuCell;
       }
     }
+
+    return null;
   }
 
   /**
-   * Highlights the row, column, and block of the clicked cell.
+   * Reapplies the latest undone move. Moves whose cell has changed since are skipped.
+   *
+   * @return SudokuCell : reapplied cell; null —> nothing to redo
    */
-  public void highlightRowColumnBlock()
+  public SudokuCell redoMove()
   {
-    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    for (long move = this.moveJournal.redo(); move != MoveJournal.NO_MOVE; move = this.moveJournal.redo())
     {
-      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
+      SudokuCell sudokuCell = this.sudokuCells[MoveJournal.getCellIndex(move)];
+
+      if (sudokuCell.getCurrentValue() == MoveJournal.getOldValue(move)
+          && sudokuCell.getNotes() == MoveJournal.getOldNotes(move))
       {
-        if (sudokuCell.getParentBlockId() == currentClickedCell.getParentBlockId()
-            || sudokuCell.getPuzzleRow() == currentClickedCell.getPuzzleRow()
-            || sudokuCell.getPuzzleCol() == currentClickedCell.getPuzzleCol())
-        {
-          this.highlightCell(sudokuCell);
-        }
+        this.applyCellState(sudokuCell, MoveJournal.getWritingTool(move), MoveJournal.getNewValue(move),
+            MoveJournal.getNewNotes(move));
+
+        return sudokuCell;
       }
     }
+
+    return null;
   }
 
   /**
-   * Unhighlights all sudoku cells.
+   * Moves the cell between the value indices and updates the candidates (and conflicts) of the cell
+   * and its peers when its current value changes (e.g. pen entry, erase, restart, hint, undo, or
+   * redo).
+   *
+   * @param sudokuCell : updated sudoku cell
+   * @param oldValue   : previous cell value (0 —> empty cell)
+   * @param newValue   : new cell value (0 —> empty cell)
    */
-  public void unhighlightSudokuPuzzle()
+  public void updateValueCells(SudokuCell sudokuCell, int oldValue, int newValue)
   {
-    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    if (oldValue > 0)
     {
-      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
+      this.valueCells[oldValue].clear(sudokuCell.getCellIndex());
+    }
+
+    if (newValue > 0)
+    {
+      this.valueCells[newValue].set(sudokuCell.getCellIndex());
+    }
+
+    this.candidateGrid.updateCell(sudokuCell.getCellIndex(), newValue);
+
+    if (this.isShowingConflicts)
+    {
+      this.updateConflictStyling(sudokuCell.getCellIndex());
+
+      for (int peerIndex : this.cellPeers.getPeerCells(sudokuCell.getCellIndex()))
+      {
+        this.updateConflictStyling(peerIndex);
+      }
+    }
+  }
+
+  /**
+   * Determines whether any value occurs more than once in a row, column, or block of the puzzle.
+   *
+   * @return boolean : true —> puzzle has conflicts; false —> no conflicts
+   */
+  public boolean hasConflicts()
+  {
+    return this.candidateGrid.hasConflicts();
+  }
+
+  /**
+   * Takes a snapshot of the game in progress, so it can be saved and resumed later.
+   *
+   * @param difficulty  : puzzle difficulty
+   * @param elapsedTime : elapsed playing time in milliseconds
+   * @return GameSnapshot : snapshot of the game in progress
+   */
+  public GameSnapshot toSnapshot(PuzzleDifficulty difficulty, long elapsedTime)
+  {
+    var cellValues = new int[this.totalCells];
+    var cellNotes = new int[this.totalCells];
+    var writingTools = new WritingTool[this.totalCells];
+
+    for (SudokuCell sudokuCell : this.sudokuCells)
+    {
+      cellValues[sudokuCell.getCellIndex()] = sudokuCell.getCurrentValue();
+      cellNotes[sudokuCell.getCellIndex()] = sudokuCell.getNotes();
+      writingTools[sudokuCell.getCellIndex()] = sudokuCell.getWritingTool();
+    }
+
+    return new GameSnapshot(this.blockSize, difficulty, elapsedTime, this.initialPuzzle, this.solvedPuzzle, cellValues,
+        cellNotes, writingTools, this.hintCells.toArray());
+  }
+
+  /**
+   * Retrieves the values a hint is deduced from: the initial and correctly placed values. Incorrect
+   * values and notes are left out, so the deduction always agrees with the solution.
+   *
+   * @return int[] : flat array of the correct sudoku values (0 —> empty or incorrect cell)
+   */
+  public int[] getHintPuzzle()
+  {
+    var hintPuzzle = new int[this.totalCells];
+
+    for (SudokuCell sudokuCell : this.sudokuCells)
+    {
+      if (sudokuCell.getCurrentValue() > 0 && sudokuCell.isCorrect())
       {
-        sudokuCell.unhighlightCell();
+        hintPuzzle[sudokuCell.getCellIndex()] = sudokuCell.getCurrentValue();
       }
     }
+
+    return hintPuzzle;
   }
 
   /**
-   * Loads the sudoku puzzle with the provided hint.
+   * Loads the sudoku puzzle with the provided hint: the deduced cell is revealed and the cells that
+   * support the deduction are highlighted. A random hint cell is revealed instead when there's no
+   * deduction or it no longer applies.
+   *
+   * @param hint : next logical deduction; null —> no technique applied
    */
-  public void getHint()
+  public void loadHint(Hint hint)
   {
-    Integer hintCellIndex = this.generateRandomIndex();
+    SudokuCell deducedCell = this.getDeducedCell(hint);
+    SudokuCell hintCell = deducedCell != null ? deducedCell : this.getRandomHintCell();
 
-    if (hintCellIndex != null)
+    if (hintCell != null)
     {
-      SudokuCell hintCell = this.getHintCell(hintCellIndex);
+      this.updateHintCellStyling(hintCell);
+      this.hintCells.remove(hintCell.getCellIndex());
+      this.updateCurrHintCell(hintCell);
+    }
 
-      if (hintCell != null)
+    if (deducedCell != null)
+    {
+      for (int supportingCell : hint.getSupportingCells())
       {
-        this.updateHintCellStyling(hintCell);
-        this.hintCells.remove(hintCellIndex.intValue());
-        this.updateCurrHintCell(hintCell);
+        this.sudokuCells[supportingCell].highlightHintSupportCell();
+        this.hintSupportCells.add(this.sudokuCells[supportingCell]);
       }
     }
   }
 
+  /**
+   * Unhighlights the current hint cell and the cells that supported it.
+   */
+  public void unhighlightHintCells()
+  {
+    if (this.currentHintCell != null)
+    {
+      this.currentHintCell.unhighlightHintCell();
+      this.currentHintCell = null;
+    }
+
+    for (SudokuCell supportingCell : this.hintSupportCells)
+    {
+      supportingCell.unhighlightHintSupportCell();
+    }
+
+    this.hintSupportCells.clear();
+  }
+
   /**
    * Determines whether the input of the sudoku cell is correct.
    *
@@ -501,7 +863,7 @@ public class Sudoku
    */
   public boolean isCorrectValue(SudokuCell sudokuCell)
   {
-    return this.solvedPuzzle[(sudokuCell.getPuzzleRow() * PUZZLE_SIZE) + sudokuCell.getPuzzleCol()] == sudokuCell
+    return this.solvedPuzzle[(sudokuCell.getPuzzleRow() * this.puzzleSize) + sudokuCell.getPuzzleCol()] == sudokuCell
         .getCurrentValue();
   }
 
@@ -512,14 +874,11 @@ public class Sudoku
    */
   public boolean isCorrectSolution()
   {
-    for (SudokuBlock sudokuBlock : this.userPuzzle)
+    for (SudokuCell sudokuCell : this.sudokuCells)
     {
-      for (SudokuCell sudokuCell : sudokuBlock.getBlockCells())
+      if (sudokuCell.getCurrentValue() != this.solvedPuzzle[sudokuCell.getCellIndex()])
       {
-        if (sudokuCell.getCurrentValue() != this.solvedPuzzle[sudokuCell.getCellIndex()])
-        {
-          return false;
-        }
+        return false;
       }
     }
 
@@ -527,54 +886,53 @@ public class Sudoku
   }
 
   /**
-   * Adds a sudoku cell to the list of correct cells.
+   * Adds a sudoku cell to the correct cells in O(1).
    *
    * @param sudokuCell : sudoku cell
    */
   public void addCorrectCell(SudokuCell sudokuCell)
   {
-    Square correctCell = new Square(sudokuCell.getPuzzleCol(), sudokuCell.getPuzzleRow(), sudokuCell.getCurrentValue());
-    this.correctCells.add(correctCell);
+    this.correctCells.set(sudokuCell.getCellIndex());
   }
 
   /** Getters and Setters **/
 
   /**
-   * Retrieves {@link #PUZZLE_SIZE}.
+   * Retrieves {@link #puzzleSize}.
    *
    * @return int : puzzle size
    */
   public int getPuzzleSize()
   {
-    return PUZZLE_SIZE;
+    return this.puzzleSize;
   }
 
   /**
-   * Retrieves {@link #BLOCK_SIZE}.
+   * Retrieves {@link #blockSize}.
    *
    * @return int : block size
    */
   public int getBlockSize()
   {
-    return BLOCK_SIZE;
+    return this.blockSize;
   }
 
   /**
-   * Retrieves {@link #TOTAL_CELLS}.
+   * Retrieves {@link #totalCells}.
    *
    * @return int : total cells
    */
   public int getTotalCells()
   {
-    return TOTAL_CELLS;
+    return this.totalCells;
   }
 
   /**
    * Retrieves {@link #valueOccurrences}.
    *
-   * @return Map<Integer, Integer> : map of sudoku value occurrences
+   * @return ValueOccurrences : occurrence counts of the correct sudoku values
    */
-  public Map<Integer, Integer> getValueOccurrences()
+  public ValueOccurrences getValueOccurrences()
   {
     return this.valueOccurrences;
   }
@@ -659,10 +1017,94 @@ public class Sudoku
     return this.userPuzzle;
   }
 
+  /**
+   * Retrieves the {@link SudokuCell} at the cell index in O(1).
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return SudokuCell : SudokuCell instance
+   */
+  public SudokuCell getSudokuCell(int cellIndex)
+  {
+    return this.sudokuCells[cellIndex];
+  }
+
+  /**
+   * Retrieves {@link #moveJournal}.
+   *
+   * @return MoveJournal : undo/redo journal of the user's moves
+   */
+  public MoveJournal getMoveJournal()
+  {
+    return this.moveJournal;
+  }
+
+  /**
+   * Retrieves {@link #candidateGrid}.
+   *
+   * @return CandidateGrid : legal candidates of every cell (e.g. for multi—digit notes or auto—notes)
+   */
+  public CandidateGrid getCandidateGrid()
+  {
+    return this.candidateGrid;
+  }
+
+  /**
+   * Retrieves {@link #isShowingConflicts}.
+   *
+   * @return boolean : true —> conflicting cells are highlighted; false —> conflicts are hidden
+   */
+  public boolean getIsShowingConflicts()
+  {
+    return this.isShowingConflicts;
+  }
+
+  /**
+   * Updates {@link #isShowingConflicts} and the conflict highlighting of every cell. Afterwards, only
+   * the edited cell and its peers are restyled on each edit.
+   *
+   * @param isShowingConflicts : true —> highlight conflicting cells; false —> hide conflicts
+   */
+  public void setIsShowingConflicts(boolean isShowingConflicts)
+  {
+    this.isShowingConflicts = isShowingConflicts;
+
+    for (SudokuCell sudokuCell : this.sudokuCells)
+    {
+      if (isShowingConflicts)
+      {
+        this.updateConflictStyling(sudokuCell.getCellIndex());
+      } else
+      {
+        sudokuCell.unhighlightConflictCell();
+      }
+    }
+  }
+
+  /**
+   * Retrieves {@link #cellPeers}.
+   *
+   * @return CellPeers : row, column, block, and peer lookup tables
+   */
+  public CellPeers getCellPeers()
+  {
+    return this.cellPeers;
+  }
+
+  /**
+   * Retrieves {@link #solutionCount}.
+   *
+   * @return SolutionCount : number of solutions of the initial puzzle
+   */
+  public SolutionCount getSolutionCount()
+  {
+    return this.solutionCount;
+  }
+
   /**
    * Retrieves {@link #isSolved}.
    *
-   * @return boolean : true —> puzzle is solved; false —> puzzle is unsolved
+   * @return boolean : true —> puzzle has a unique solution; false —> puzzle has no solution or
+   *         multiple solutions
    */
   public boolean getIsSolved()
   {
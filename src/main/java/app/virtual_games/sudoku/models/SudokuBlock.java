@@ -1,11 +1,8 @@
 package app.virtual_games.sudoku.models;
 
-import java.util.stream.IntStream;
-
-
 /**
  *
- * Class that represents the nine sudoku blocks.
+ * Class that represents the sudoku blocks (e.g. nine for a 9x9 puzzle).
  *
  * @author Corey Caskey
  * @version 1.0.0
@@ -26,7 +23,7 @@ public class SudokuBlock
    * {@link #parentSudoku}
    * {@link #blockCells}
    *
-   * @param blockId : unique identifier (e.g. 0 — 8)
+   * @param blockId : unique identifier (e.g. 0 — 8 for a 9x9 puzzle)
    * @param parentSudoku : outer sudoku class
    *
    */
@@ -43,35 +40,23 @@ public class SudokuBlock
 
   /**
    *
-   * Retrieves the nine {@link SudokuCell} objects that reside in the sudoku block.
+   * Retrieves the {@link SudokuCell} objects that reside in the sudoku block, from the block's
+   * precomputed cell indices (i.e. no scan of the whole puzzle).
    *
    * @return SudokuCell[] : array of SudokuCell instances
    *
    */
   private SudokuCell[] loadBlockCells()
   {
-    return IntStream.range(0, this.parentSudoku.getTotalCells())
-                    .filter(cellIndex -> this.calculateParentBlockIdForCell(cellIndex) == this.blockId)
-                    .mapToObj(this::getSudokuCell)
-                    .toArray(SudokuCell[]::new);
-  }
+    int[] cellIndices = this.parentSudoku.getCellPeers().getBlockCells(this.blockId);
+    var cells = new SudokuCell[cellIndices.length];
 
+    for (var blockCellIndex = 0; blockCellIndex < cellIndices.length; blockCellIndex++)
+    {
+      cells[blockCellIndex] = this.getSudokuCell(cellIndices[blockCellIndex]);
+    }
 
-  /**
-   *
-   * Calculates the block id for the cell's parent block.
-   *
-   * @param cellIndex : index of the cell in the puzzle array
-   *
-   * @return int : cell's parent block id
-   *
-   */
-  private int calculateParentBlockIdForCell(int cellIndex)
-  {
-    int puzzleRow = cellIndex / this.parentSudoku.getPuzzleSize();
-    int puzzleCol = cellIndex % this.parentSudoku.getPuzzleSize();
-
-    return (puzzleCol / this.parentSudoku.getBlockSize()) + ((puzzleRow / this.parentSudoku.getBlockSize()) * this.parentSudoku.getBlockSize());
+    return cells;
   }
 
 
@@ -9,7 +9,7 @@ import javafx.beans.value.ChangeListener;
 import javafx.scene.control.TextField;
 
 /**
- * Custom child class of {@link TextField} that represents the 81 sudoku cells.
+ * Custom child class of {@link TextField} that represents the sudoku cells (e.g. 81 for a 9x9 puzzle).
  *
  * @author Corey Caskey
  * @version 1.0.0
@@ -46,7 +46,8 @@ public class SudokuCell extends TextField
     this.notes = 0;
 
     this.parentSudoku = parentSudoku;
-    this.borderClass = BorderStyling.getEnumInstance(this.getPuzzleRow(), this.getPuzzleCol());
+    this.borderClass = BorderStyling.getEnumInstance(this.getPuzzleRow(), this.getPuzzleCol(),
+        parentSudoku.getBlockSize());
     this.writingTool = WritingTool.PEN;
     this.textListener = new TextPropertyListener();
 
@@ -62,7 +63,7 @@ public class SudokuCell extends TextField
   private void loadStaticStyling()
   {
     this.addStyling(this.borderClass.getClassName(), "pen");
-    this.setText(this.currentValue == 0 ? "" : Integer.toString(this.currentValue));
+    this.setText(this.currentValue == 0 ? "" : ValueSymbols.toSymbol(this.currentValue));
     this.setEditable(this.currentValue == 0);
     this.positionCaret(this.getText().length()); // places the cursor at the end of the text
   }
@@ -183,13 +184,48 @@ public class SudokuCell extends TextField
     this.removeStyling("hint-cell");
   }
 
+  /**
+   * Highlights the sudoku cell that supports the hint's deduction.
+   */
+  public void highlightHintSupportCell()
+  {
+    this.addStyling("hint-support-cell");
+  }
+
+  /**
+   * Unhighlights the sudoku cell that supports the hint's deduction.
+   */
+  public void unhighlightHintSupportCell()
+  {
+    this.removeStyling("hint-support-cell");
+  }
+
+  /**
+   * Highlights the sudoku cell whose value also occurs in its row, column, or block.
+   */
+  public void highlightConflictCell()
+  {
+    if (!this.getStyleClass().contains("conflict-cell")) // restyled on every edit of a peer
+    {
+      this.addStyling("conflict-cell");
+    }
+  }
+
+  /**
+   * Unhighlights the sudoku cell whose value no longer conflicts.
+   */
+  public void unhighlightConflictCell()
+  {
+    this.removeStyling("conflict-cell");
+  }
+
   /**
    * Removes all highlight styling from the sudoku cell.
    */
   public void unhighlightCell()
   {
     this.removeStyling("correct-cell-occurrence", "incorrect-cell-occurrence", "clicked-sudoku-cell",
-        "row-col-block-cell", "hint-cell");
+        "row-col-block-cell", "hint-cell", "hint-support-cell");
   }
 
   /**
@@ -233,7 +269,7 @@ public class SudokuCell extends TextField
   }
 
   /**
-   * Calculates the index of the cell in the parent block (i.e. 0 — 8).
+   * Calculates the index of the cell in the parent block (e.g. 0 — 8 for a 9x9 puzzle).
    *
    * @return int : parent block cell index
    */
@@ -301,7 +337,14 @@ public class SudokuCell extends TextField
    */
   public void setCurrentValue(int newValue)
   {
+    int oldValue = this.currentValue;
+
     this.currentValue = newValue;
+
+    if (oldValue != newValue)
+    {
+      this.parentSudoku.updateValueCells(this, oldValue, newValue);
+    }
   }
 
   /**
@@ -0,0 +1,251 @@
+package app.virtual_games.sudoku.models;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import app.virtual_games.sudoku.controllers.SolutionController;
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.solvers.SolutionCheck;
+import app.virtual_games.sudoku.solvers.SolutionCount;
+
+/**
+ * Immutable, fully checked sudoku puzzle (i.e. initial cells, uniqueness check, and solution)
+ * without any JavaFX state. Building one is the expensive part of starting a game, so it can be
+ * done on any thread (e.g. by a prefetcher) and handed to {@link Sudoku} on the JavaFX application
+ * thread.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public final class SudokuPuzzle
+{
+  private final int blockSize;
+  private final int puzzleSize;
+  private final int totalCells;
+
+  private final List<Square> initialCells;
+  private final int[] initialPuzzle;
+  private final int[] solvedPuzzle;
+  private final SolutionCount solutionCount;
+
+  /**
+   * Initializes a sudoku puzzle of any size from its initial cells (e.g. block size 2 —> 4x4, 3 —>
+   * 9x9, 4 —> 16x16, 5 —> 25x25), then checks it, keeping the solution only if it's unique. Initial
+   * cells that conflict (e.g. a player—created or imported puzzle with a repeated value in a row) are
+   * rejected before any solver runs.
+   *
+   * @throws IllegalArgumentException
+   * @param blockSize    : number of rows (or columns) in a sudoku block
+   * @param initialCells : list of initial sudoku cells
+   */
+  public SudokuPuzzle(int blockSize, List<Square> initialCells) throws IllegalArgumentException
+  {
+    if (blockSize < 2 || blockSize * blockSize > ValueSymbols.MAX_PUZZLE_SIZE)
+    {
+      throw new IllegalArgumentException(String.format("Unsupported block size %d", blockSize));
+    }
+
+    this.blockSize = blockSize;
+    this.puzzleSize = blockSize * blockSize;
+    this.totalCells = this.puzzleSize * this.puzzleSize;
+
+    this.initialCells = Collections.unmodifiableList(initialCells.stream()
+        .map(cell -> new Square(cell.getX(), cell.getY(), cell.getValue())).collect(Collectors.toList()));
+    this.initialPuzzle = SudokuPuzzle.buildInitialPuzzle(this.puzzleSize, this.initialCells);
+
+    if (new CandidateGrid(blockSize, this.initialPuzzle).hasConflicts())
+    {
+      this.solutionCount = SolutionCount.NONE;
+      this.solvedPuzzle = null;
+    } else
+    {
+      SolutionCheck solutionCheck = SolutionController.verifySolution(blockSize, this.initialPuzzle);
+
+      this.solutionCount = solutionCheck.getSolutionCount();
+      this.solvedPuzzle = solutionCheck.getSolution(); // found by the check, so no second solve
+    }
+  }
+
+  /**
+   * Initializes a sudoku puzzle from values that were already checked and solved (e.g. a
+   * {@link app.virtual_games.sudoku.sources.PuzzleBank} record), so no solver runs here. Each cell is
+   * still checked in O(1): the solution value must be in range, and an initial value must match it.
+   *
+   * @throws IllegalArgumentException
+   * @param blockSize     : number of rows (or columns) in a sudoku block
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @param solvedPuzzle  : flat array of the unique solution's values
+   */
+  public SudokuPuzzle(int blockSize, int[] initialPuzzle, int[] solvedPuzzle) throws IllegalArgumentException
+  {
+    if (blockSize < 2 || blockSize * blockSize > ValueSymbols.MAX_PUZZLE_SIZE)
+    {
+      throw new IllegalArgumentException(String.format("Unsupported block size %d", blockSize));
+    }
+
+    this.blockSize = blockSize;
+    this.puzzleSize = blockSize * blockSize;
+    this.totalCells = this.puzzleSize * this.puzzleSize;
+
+    if (initialPuzzle.length != this.totalCells || solvedPuzzle.length != this.totalCells)
+    {
+      throw new IllegalArgumentException(String.format("Puzzle must have %d cells", this.totalCells));
+    }
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      if (solvedPuzzle[cellIndex] < 1 || solvedPuzzle[cellIndex] > this.puzzleSize)
+      {
+        throw new IllegalArgumentException(
+            String.format("Unsupported solution value %d in cell %d", solvedPuzzle[cellIndex], cellIndex));
+      }
+
+      if (initialPuzzle[cellIndex] != 0 && initialPuzzle[cellIndex] != solvedPuzzle[cellIndex])
+      {
+        throw new IllegalArgumentException(String.format("Initial value %d in cell %d doesn't match the solution",
+            initialPuzzle[cellIndex], cellIndex));
+      }
+    }
+
+    this.initialPuzzle = initialPuzzle.clone();
+    this.solvedPuzzle = solvedPuzzle.clone();
+    this.initialCells = Collections.unmodifiableList(this.buildInitialCells());
+    this.solutionCount = SolutionCount.UNIQUE;
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Builds flat array of initial sudoku values in one pass over the initial cells.
+   *
+   * @throws IllegalArgumentException
+   * @param puzzleSize   : number of rows (or columns) in the puzzle
+   * @param initialCells : list of initial sudoku cells
+   * @return int[] : array of initial sudoku values (0 —> empty cell)
+   */
+  public static int[] buildInitialPuzzle(int puzzleSize, List<Square> initialCells) throws IllegalArgumentException
+  {
+    var initialPuzzle = new int[puzzleSize * puzzleSize];
+
+    for (Square cell : initialCells)
+    {
+      if (cell.getX() < 0 || cell.getX() >= puzzleSize || cell.getY() < 0 || cell.getY() >= puzzleSize)
+      {
+        throw new IllegalArgumentException(String.format("Initial cell (%d, %d) is outside the puzzle", cell.getX(),
+            cell.getY()));
+      }
+
+      initialPuzzle[(cell.getY() * puzzleSize) + cell.getX()] = cell.getValue();
+    }
+
+    return initialPuzzle;
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Builds row—ordered initial sudoku cells from {@link #initialPuzzle}.
+   *
+   * @return List<Square> : list of initial sudoku cells
+   */
+  private List<Square> buildInitialCells()
+  {
+    var initialCells = new ArrayList<Square>();
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      if (this.initialPuzzle[cellIndex] != 0)
+      {
+        initialCells.add(
+            new Square(cellIndex % this.puzzleSize, cellIndex / this.puzzleSize, this.initialPuzzle[cellIndex]));
+      }
+    }
+
+    return initialCells;
+  }
+
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #blockSize}.
+   *
+   * @return int : block size
+   */
+  public int getBlockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * Retrieves {@link #puzzleSize}.
+   *
+   * @return int : puzzle size
+   */
+  public int getPuzzleSize()
+  {
+    return this.puzzleSize;
+  }
+
+  /**
+   * Retrieves {@link #totalCells}.
+   *
+   * @return int : total cells
+   */
+  public int getTotalCells()
+  {
+    return this.totalCells;
+  }
+
+  /**
+   * Retrieves {@link #initialCells}.
+   *
+   * @return List<Square> : unmodifiable list of initial sudoku cells
+   */
+  public List<Square> getInitialCells()
+  {
+    return this.initialCells;
+  }
+
+  /**
+   * Retrieves a copy of {@link #initialPuzzle}.
+   *
+   * @return int[] : array of initial sudoku values
+   */
+  public int[] getInitialPuzzle()
+  {
+    return this.initialPuzzle.clone();
+  }
+
+  /**
+   * Retrieves a copy of {@link #solvedPuzzle}.
+   *
+   * @return int[] : array of correct sudoku values; null —> no unique solution
+   */
+  public int[] getSolvedPuzzle()
+  {
+    return this.solvedPuzzle != null ? this.solvedPuzzle.clone() : null;
+  }
+
+  /**
+   * Retrieves {@link #solutionCount}.
+   *
+   * @return SolutionCount : number of solutions of the initial puzzle
+   */
+  public SolutionCount getSolutionCount()
+  {
+    return this.solutionCount;
+  }
+
+  /**
+   * Determines whether the puzzle has a unique solution.
+   *
+   * @return boolean : true —> unique solution; false —> no solution or multiple solutions
+   */
+  public boolean getIsSolved()
+  {
+    return this.solutionCount == SolutionCount.UNIQUE;
+  }
+}
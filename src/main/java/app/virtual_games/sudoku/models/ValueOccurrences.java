@@ -0,0 +1,147 @@
+package app.virtual_games.sudoku.models;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import app.virtual_games.sudoku.listeners.ValueOccurrenceListener;
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+
+/**
+ * Occurrence counts of the correctly placed sudoku values, stored in a primitive array indexed by
+ * value (index 0 —> unused), so updates and lookups never box or hash. A value is complete once it
+ * occurs puzzle size times. Registered {@link ValueOccurrenceListener}s are notified of every
+ * change.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class ValueOccurrences
+{
+  private final int puzzleSize;
+  private final int[] counts;
+  private final List<ValueOccurrenceListener> listeners;
+
+  /**
+   * Initializes the counts from the correct cells.
+   *
+   * @param puzzleSize   : number of values in the puzzle (e.g. 9 for a 9x9 puzzle)
+   * @param correctCells : list of correct sudoku cells
+   */
+  public ValueOccurrences(int puzzleSize, List<Square> correctCells)
+  {
+    this.puzzleSize = puzzleSize;
+    this.counts = new int[puzzleSize + 1];
+    this.listeners = new ArrayList<>();
+
+    this.reset(correctCells);
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Recounts the occurrences from the correct cells (e.g. after a restart). Listeners are kept but
+   * not notified.
+   *
+   * @param correctCells : list of correct sudoku cells
+   */
+  public void reset(List<Square> correctCells)
+  {
+    Arrays.fill(this.counts, 0);
+
+    for (Square cell : correctCells)
+    {
+      this.counts[cell.getValue()]++;
+    }
+  }
+
+  /**
+   * Increments the occurrence count of the value.
+   *
+   * @param value : sudoku value
+   */
+  public void increment(int value)
+  {
+    this.notifyListeners(value, ++this.counts[value]);
+  }
+
+  /**
+   * Decrements the occurrence count of the value.
+   *
+   * @param value : sudoku value
+   */
+  public void decrement(int value)
+  {
+    this.notifyListeners(value, --this.counts[value]);
+  }
+
+  /**
+   * Retrieves the occurrence count of the value.
+   *
+   * @param value : sudoku value
+   * @return int : occurrence count
+   */
+  public int count(int value)
+  {
+    return this.counts[value];
+  }
+
+  /**
+   * Determines whether every occurrence of the value has been placed.
+   *
+   * @param value : sudoku value
+   * @return boolean : true —> value complete; false —> value incomplete
+   */
+  public boolean isComplete(int value)
+  {
+    return this.counts[value] == this.puzzleSize;
+  }
+
+  /**
+   * Registers a listener for occurrence changes.
+   *
+   * @param listener : occurrence change listener
+   */
+  public void addListener(ValueOccurrenceListener listener)
+  {
+    this.listeners.add(listener);
+  }
+
+  /**
+   * Unregisters a listener for occurrence changes.
+   *
+   * @param listener : occurrence change listener
+   */
+  public void removeListener(ValueOccurrenceListener listener)
+  {
+    this.listeners.remove(listener);
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Notifies every listener of an occurrence change.
+   *
+   * @param value       : sudoku value
+   * @param occurrences : new occurrence count
+   */
+  private void notifyListeners(int value, int occurrences)
+  {
+    for (var listenerIndex = 0; listenerIndex < this.listeners.size(); listenerIndex++)
+    {
+      this.listeners.get(listenerIndex).occurrencesChanged(value, occurrences);
+    }
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #puzzleSize}.
+   *
+   * @return int : puzzle size
+   */
+  public int getPuzzleSize()
+  {
+    return this.puzzleSize;
+  }
+}
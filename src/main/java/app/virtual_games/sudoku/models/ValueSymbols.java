@@ -0,0 +1,54 @@
+package app.virtual_games.sudoku.models;
+
+/**
+ * Converts between sudoku values and the single character shown in a sudoku cell (1 — 9, then
+ * A — P), so every puzzle up to 25x25 can be played with one keystroke per value.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class ValueSymbols
+{
+  private static final String SYMBOLS = "123456789ABCDEFGHIJKLMNOP";
+
+  /**
+   * Largest puzzle size that can be displayed.
+   */
+  public static final int MAX_PUZZLE_SIZE = SYMBOLS.length();
+
+  private ValueSymbols()
+  {
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Retrieves the symbol for a sudoku value.
+   *
+   * @param value : sudoku value (1 — puzzle size)
+   * @return String : cell text
+   */
+  public static String toSymbol(int value)
+  {
+    return String.valueOf(SYMBOLS.charAt(value - 1));
+  }
+
+  /**
+   * Retrieves the sudoku value for the cell text.
+   *
+   * @param text       : cell text
+   * @param puzzleSize : number of values in the puzzle
+   * @return int : sudoku value; 0 —> not a valid value for the puzzle
+   */
+  public static int toValue(String text, int puzzleSize)
+  {
+    if (text.length() != 1)
+    {
+      return 0;
+    }
+
+    int value = SYMBOLS.indexOf(Character.toUpperCase(text.charAt(0))) + 1;
+
+    return value <= puzzleSize ? value : 0;
+  }
+}
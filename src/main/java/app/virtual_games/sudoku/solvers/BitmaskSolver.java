@@ -0,0 +1,242 @@
+package app.virtual_games.sudoku.solvers;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Back—tracking, DFS solver that tracks the values used by each row, column, and block as bitmasks
+ * (bit 0 —> value 1, bit 1 —> value 2, etc.). The masks are updated incrementally as values are
+ * placed and removed, so the search itself never allocates. The next empty cell is chosen by a
+ * {@link CellSelection} strategy and its candidates are tested in {@link ValueOrdering} order.
+ *
+ * The solver only holds immutable configuration and lookup tables; every call to
+ * {@link #solve(int[])} works on its own {@link SolverContext}, so one instance can be shared by
+ * any number of threads.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class BitmaskSolver implements Solver
+{
+  private final int puzzleSize;
+  private final int blockSize;
+  private final int totalCells;
+  private final CellSelection cellSelection;
+  private final ValueOrdering valueOrdering;
+
+  private final int[] cellRows;
+  private final int[] cellCols;
+  private final int[] cellBlocks;
+
+  /**
+   * Initializes a solver that uses {@link CellSelection#MINIMUM_REMAINING_VALUES} and
+   * {@link ValueOrdering#ASCENDING}.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block (e.g. 3 —> 9x9 puzzle)
+   */
+  public BitmaskSolver(int blockSize)
+  {
+    this(blockSize, CellSelection.MINIMUM_REMAINING_VALUES, ValueOrdering.ASCENDING);
+  }
+
+  /**
+   * Initializes the puzzle dimensions, search strategies, and the row, column, and block lookup
+   * tables for each cell.
+   *
+   * @param blockSize     : number of rows (or columns) in a sudoku block (e.g. 3 —> 9x9 puzzle)
+   * @param cellSelection : strategy for choosing the next empty cell
+   * @param valueOrdering : policy for ordering a cell's candidate values
+   */
+  public BitmaskSolver(int blockSize, CellSelection cellSelection, ValueOrdering valueOrdering)
+  {
+    this.cellSelection = cellSelection;
+    this.valueOrdering = valueOrdering;
+    this.blockSize = blockSize;
+    this.puzzleSize = blockSize * blockSize;
+    this.totalCells = this.puzzleSize * this.puzzleSize;
+
+    this.cellRows = new int[this.totalCells];
+    this.cellCols = new int[this.totalCells];
+    this.cellBlocks = new int[this.totalCells];
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      int row = cellIndex / this.puzzleSize;
+      int col = cellIndex % this.puzzleSize;
+
+      this.cellRows[cellIndex] = row;
+      this.cellCols[cellIndex] = col;
+      this.cellBlocks[cellIndex] = ((row / blockSize) * blockSize) + (col / blockSize);
+    }
+  }
+
+  /**
+   * Solves the puzzle with a new {@link SolverContext}.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return int[] : array of correct sudoku values; null —> no solution found
+   */
+  @Override
+  public int[] solve(int[] initialPuzzle)
+  {
+    SolverContext context = this.createContext(initialPuzzle);
+
+    if (context == null)
+    {
+      return null; // initial values already conflict
+    }
+
+    return this.solutionHelper(context, 0, null) ? context.getPuzzle() : null;
+  }
+
+  /**
+   * Counts the solutions of the puzzle with a new {@link SolverContext}, stopping as soon as the
+   * limit is reached.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @param limit         : maximum number of solutions to count
+   * @return int : number of solutions found (at most the limit)
+   */
+  @Override
+  public int countSolutions(int[] initialPuzzle, int limit)
+  {
+    SolverContext context = this.createContext(initialPuzzle);
+
+    return context != null ? this.countHelper(context, 0, limit) : 0;
+  }
+
+  /**
+   * Initializes a {@link SolverContext} loaded with the initial puzzle.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return SolverContext : loaded search state; null —> conflicting initial values
+   */
+  SolverContext createContext(int[] initialPuzzle)
+  {
+    var context = new SolverContext(this.puzzleSize, this.cellRows, this.cellCols, this.cellBlocks);
+
+    return context.load(initialPuzzle) ? context : null;
+  }
+
+  /**
+   * Primary recursive helper method that facilitates the DFS algorithm. When a cancellation flag is
+   * provided, the search gives up as soon as the flag is set.
+   *
+   * @param context   : search state
+   * @param depth     : number of empty cells already filled
+   * @param cancelled : cancellation flag (null —> not cancellable)
+   * @return boolean : true —> valid solution found; false —> no solution found or cancelled
+   */
+  boolean solutionHelper(SolverContext context, int depth, AtomicBoolean cancelled)
+  {
+    if (cancelled != null && cancelled.get())
+    {
+      return false;
+    }
+
+    if (depth == context.getEmptyCellCount())
+    {
+      return true; // no more empty cells
+    }
+
+    int cellIndex = context.selectEmptyCell(depth, this.cellSelection);
+    long candidates = context.getCandidates(cellIndex);
+
+    while (candidates != 0)
+    {
+      long valueBit = this.valueOrdering.selectValue(candidates);
+      int testValue = Long.numberOfTrailingZeros(valueBit) + 1;
+
+      candidates &= ~valueBit;
+
+      context.place(cellIndex, testValue); // test the proposed value
+
+      if (this.solutionHelper(context, depth + 1, cancelled))
+      {
+        return true;
+      } // proposed value gave a valid solution
+
+      context.unplace(cellIndex, testValue); // proposed value gave an invalid solution
+    }
+
+    return false;
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Recursive helper method that counts the solutions below the current search node.
+   *
+   * @param context : search state
+   * @param depth   : number of empty cells already filled
+   * @param limit   : maximum number of solutions to count below this node
+   * @return int : number of solutions found (at most the limit)
+   */
+  private int countHelper(SolverContext context, int depth, int limit)
+  {
+    if (depth == context.getEmptyCellCount())
+    {
+      return 1; // no more empty cells
+    }
+
+    int cellIndex = context.selectEmptyCell(depth, this.cellSelection);
+    long candidates = context.getCandidates(cellIndex);
+    var solutionCount = 0;
+
+    while (candidates != 0 && solutionCount < limit)
+    {
+      long valueBit = this.valueOrdering.selectValue(candidates);
+      int testValue = Long.numberOfTrailingZeros(valueBit) + 1;
+
+      candidates &= ~valueBit;
+
+      context.place(cellIndex, testValue);
+      solutionCount += this.countHelper(context, depth + 1, limit - solutionCount);
+      context.unplace(cellIndex, testValue);
+    }
+
+    return solutionCount;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #puzzleSize}.
+   *
+   * @return int : puzzle size
+   */
+  public int getPuzzleSize()
+  {
+    return this.puzzleSize;
+  }
+
+  /**
+   * Retrieves {@link #blockSize}.
+   *
+   * @return int : block size
+   */
+  @Override
+  public int getBlockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * Retrieves {@link #cellSelection}.
+   *
+   * @return CellSelection : strategy for choosing the next empty cell
+   */
+  public CellSelection getCellSelection()
+  {
+    return this.cellSelection;
+  }
+
+  /**
+   * Retrieves {@link #valueOrdering}.
+   *
+   * @return ValueOrdering : policy for ordering a cell's candidate values
+   */
+  public ValueOrdering getValueOrdering()
+  {
+    return this.valueOrdering;
+  }
+}
@@ -0,0 +1,36 @@
+package app.virtual_games.sudoku.solvers;
+
+/**
+ * Enum for the strategies a solver can use to choose the next empty cell to fill.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public enum CellSelection
+{
+  FIRST_EMPTY("First Empty"), MINIMUM_REMAINING_VALUES("Minimum Remaining Values");
+
+  private final String label;
+
+  /**
+   * Initializes {@link #label}.
+   *
+   * @param label : label of the cell selection strategy
+   */
+  CellSelection(String label)
+  {
+    this.label = label;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #label} for enum instance.
+   *
+   * @return String : label of the cell selection strategy
+   */
+  public String getLabel()
+  {
+    return this.label;
+  }
+}
@@ -0,0 +1,371 @@
+package app.virtual_games.sudoku.solvers;
+
+/**
+ * Exact—cover solver that runs Knuth's Algorithm X over a dancing links matrix. A sudoku of size N
+ * has 4 * N * N constraint columns (cell, row—value, column—value, and block—value) and N * N * N
+ * candidate rows with four nodes each (324 columns and 729 rows for a 9x9 puzzle).
+ *
+ * Nodes live in parallel {@code int} arrays instead of objects. The fully linked matrix is built
+ * once per solver as a template, and every call copies the template's links into its own
+ * {@link DancingLinks} pool, so one instance can be shared by any number of threads.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class DancingLinksSolver implements Solver
+{
+  private static final int ROOT = 0;
+  private static final int NODES_PER_ROW = 4;
+
+  private final int blockSize;
+  private final int puzzleSize;
+  private final int totalCells;
+  private final int columnCount;
+  private final int nodeCount;
+
+  private final int[] templateLeft;
+  private final int[] templateRight;
+  private final int[] templateUp;
+  private final int[] templateDown;
+  private final int[] templateSizes;
+  private final int[] nodeColumns;
+  private final int[] nodeRows;
+
+  /**
+   * Initializes the puzzle dimensions and builds the template matrix.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block (e.g. 3 —> 9x9 puzzle)
+   */
+  public DancingLinksSolver(int blockSize)
+  {
+    this.blockSize = blockSize;
+    this.puzzleSize = blockSize * blockSize;
+    this.totalCells = this.puzzleSize * this.puzzleSize;
+    this.columnCount = NODES_PER_ROW * this.totalCells;
+    this.nodeCount = 1 + this.columnCount + (NODES_PER_ROW * this.totalCells * this.puzzleSize);
+
+    this.templateLeft = new int[this.nodeCount];
+    this.templateRight = new int[this.nodeCount];
+    this.templateUp = new int[this.nodeCount];
+    this.templateDown = new int[this.nodeCount];
+    this.templateSizes = new int[this.columnCount + 1];
+    this.nodeColumns = new int[this.nodeCount];
+    this.nodeRows = new int[this.nodeCount];
+
+    this.buildTemplate();
+  }
+
+  /**
+   * Solves the puzzle.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return int[] : array of correct sudoku values; null —> no solution found
+   */
+  @Override
+  public int[] solve(int[] initialPuzzle)
+  {
+    var links = new DancingLinks(initialPuzzle, 1);
+
+    return links.run() > 0 ? links.firstSolution : null;
+  }
+
+  /**
+   * Counts every solution of the puzzle.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return int : number of solutions
+   */
+  public int countSolutions(int[] initialPuzzle)
+  {
+    return this.countSolutions(initialPuzzle, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Counts the solutions of the puzzle, stopping as soon as the limit is reached.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @param limit         : maximum number of solutions to count
+   * @return int : number of solutions found (at most the limit)
+   */
+  @Override
+  public int countSolutions(int[] initialPuzzle, int limit)
+  {
+    return new DancingLinks(initialPuzzle, limit).run();
+  }
+
+  /**
+   * Determines whether the puzzle has no solution, a unique solution, or multiple solutions in a
+   * single search, keeping the first solution it finds as the unique solution.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return SolutionCheck : number of solutions and the unique solution
+   */
+  @Override
+  public SolutionCheck verifySolution(int[] initialPuzzle)
+  {
+    var links = new DancingLinks(initialPuzzle, SolutionCount.UNIQUENESS_LIMIT);
+    SolutionCount solutionCount = SolutionCount.getEnumInstance(links.run());
+
+    return new SolutionCheck(solutionCount, solutionCount == SolutionCount.UNIQUE ? links.firstSolution : null);
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Links the root, the column headers, and every candidate row into the template arrays.
+   */
+  private void buildTemplate()
+  {
+    for (var header = ROOT; header <= this.columnCount; header++)
+    {
+      this.templateLeft[header] = header == ROOT ? this.columnCount : header - 1;
+      this.templateRight[header] = header == this.columnCount ? ROOT : header + 1;
+      this.templateUp[header] = header;
+      this.templateDown[header] = header;
+      this.nodeColumns[header] = header;
+    }
+
+    int node = this.columnCount + 1;
+
+    for (var row = 0; row < this.totalCells * this.puzzleSize; row++)
+    {
+      int cellIndex = row / this.puzzleSize;
+      int valueIndex = row % this.puzzleSize;
+      int puzzleRow = cellIndex / this.puzzleSize;
+      int puzzleCol = cellIndex % this.puzzleSize;
+      int block = ((puzzleRow / this.blockSize) * this.blockSize) + (puzzleCol / this.blockSize);
+
+      int firstNode = node;
+
+      this.appendNode(node++, row, 1 + cellIndex);
+      this.appendNode(node++, row, 1 + this.totalCells + (puzzleRow * this.puzzleSize) + valueIndex);
+      this.appendNode(node++, row, 1 + (2 * this.totalCells) + (puzzleCol * this.puzzleSize) + valueIndex);
+      this.appendNode(node++, row, 1 + (3 * this.totalCells) + (block * this.puzzleSize) + valueIndex);
+
+      for (int rowNode = firstNode; rowNode < node; rowNode++)
+      {
+        this.templateLeft[rowNode] = rowNode == firstNode ? node - 1 : rowNode - 1;
+        this.templateRight[rowNode] = rowNode == node - 1 ? firstNode : rowNode + 1;
+      }
+    }
+  }
+
+  /**
+   * Inserts a node at the bottom of its column in the template.
+   *
+   * @param node   : node index
+   * @param row    : candidate row (cell index * puzzle size + value index)
+   * @param column : column header index
+   */
+  private void appendNode(int node, int row, int column)
+  {
+    int last = this.templateUp[column];
+
+    this.nodeColumns[node] = column;
+    this.nodeRows[node] = row;
+    this.templateUp[node] = last;
+    this.templateDown[node] = column;
+    this.templateDown[last] = node;
+    this.templateUp[column] = node;
+    this.templateSizes[column]++;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #blockSize}.
+   *
+   * @return int : block size
+   */
+  @Override
+  public int getBlockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * Per—call node pool copied from the template matrix.
+   */
+  private final class DancingLinks
+  {
+    private final int[] left;
+    private final int[] right;
+    private final int[] up;
+    private final int[] down;
+    private final int[] sizes;
+
+    private final int[] puzzle;
+    private final int limit;
+
+    private int[] firstSolution;
+    private int solutionCount;
+
+    /**
+     * Copies the template links and the initial puzzle.
+     *
+     * @param initialPuzzle : flat array of initial sudoku values
+     * @param limit         : maximum number of solutions to count
+     */
+    private DancingLinks(int[] initialPuzzle, int limit)
+    {
+      this.left = templateLeft.clone();
+      this.right = templateRight.clone();
+      this.up = templateUp.clone();
+      this.down = templateDown.clone();
+      this.sizes = templateSizes.clone();
+      this.puzzle = initialPuzzle.clone();
+      this.limit = limit;
+    }
+
+    /**
+     * Covers the rows of the initial values and runs the search.
+     *
+     * @return int : number of solutions found (at most {@link #limit})
+     */
+    private int run()
+    {
+      var coveredColumns = new boolean[columnCount + 1];
+
+      for (var cellIndex = 0; cellIndex < totalCells; cellIndex++)
+      {
+        if (this.puzzle[cellIndex] > 0)
+        {
+          int firstNode = columnCount + 1 + (NODES_PER_ROW * ((cellIndex * puzzleSize) + this.puzzle[cellIndex] - 1));
+
+          for (int node = firstNode; node < firstNode + NODES_PER_ROW; node++)
+          {
+            if (coveredColumns[nodeColumns[node]])
+            {
+              return 0; // initial values already conflict
+            }
+
+            coveredColumns[nodeColumns[node]] = true;
+            this.cover(nodeColumns[node]);
+          }
+        }
+      }
+
+      this.search();
+
+      return this.solutionCount;
+    }
+
+    /**
+     * Recursive helper method that facilitates Algorithm X, branching on the column with the fewest
+     * remaining rows.
+     *
+     * @return boolean : true —> solution limit reached; false —> keep searching
+     */
+    private boolean search()
+    {
+      if (this.right[ROOT] == ROOT)
+      {
+        if (this.solutionCount++ == 0)
+        {
+          this.firstSolution = this.puzzle.clone();
+        }
+
+        return this.solutionCount >= this.limit;
+      }
+
+      int column = this.selectColumn();
+
+      if (this.sizes[column] == 0)
+      {
+        return false; // unsatisfiable constraint
+      }
+
+      this.cover(column);
+
+      for (int rowNode = this.down[column]; rowNode != column; rowNode = this.down[rowNode])
+      {
+        int row = nodeRows[rowNode];
+
+        this.puzzle[row / puzzleSize] = (row % puzzleSize) + 1;
+
+        for (int node = this.right[rowNode]; node != rowNode; node = this.right[node])
+        {
+          this.cover(nodeColumns[node]);
+        }
+
+        if (this.search())
+        {
+          return true; // links are discarded with the pool, so no need to restore them
+        }
+
+        for (int node = this.left[rowNode]; node != rowNode; node = this.left[node])
+        {
+          this.uncover(nodeColumns[node]);
+        }
+
+        this.puzzle[row / puzzleSize] = 0;
+      }
+
+      this.uncover(column);
+
+      return false;
+    }
+
+    /**
+     * Retrieves the uncovered column with the fewest remaining rows.
+     *
+     * @return int : column header index
+     */
+    private int selectColumn()
+    {
+      int bestColumn = this.right[ROOT];
+
+      for (int column = this.right[bestColumn]; column != ROOT; column = this.right[column])
+      {
+        if (this.sizes[column] < this.sizes[bestColumn])
+        {
+          bestColumn = column;
+        }
+      }
+
+      return bestColumn;
+    }
+
+    /**
+     * Removes the column from the header list and every row that intersects it from other columns.
+     *
+     * @param column : column header index
+     */
+    private void cover(int column)
+    {
+      this.right[this.left[column]] = this.right[column];
+      this.left[this.right[column]] = this.left[column];
+
+      for (int rowNode = this.down[column]; rowNode != column; rowNode = this.down[rowNode])
+      {
+        for (int node = this.right[rowNode]; node != rowNode; node = this.right[node])
+        {
+          this.down[this.up[node]] = this.down[node];
+          this.up[this.down[node]] = this.up[node];
+          this.sizes[nodeColumns[node]]--;
+        }
+      }
+    }
+
+    /**
+     * Restores a covered column, undoing {@link #cover(int)} in reverse order.
+     *
+     * @param column : column header index
+     */
+    private void uncover(int column)
+    {
+      for (int rowNode = this.up[column]; rowNode != column; rowNode = this.up[rowNode])
+      {
+        for (int node = this.left[rowNode]; node != rowNode; node = this.left[node])
+        {
+          this.sizes[nodeColumns[node]]++;
+          this.down[this.up[node]] = node;
+          this.up[this.down[node]] = node;
+        }
+      }
+
+      this.right[this.left[column]] = column;
+      this.left[this.right[column]] = column;
+    }
+  }
+}
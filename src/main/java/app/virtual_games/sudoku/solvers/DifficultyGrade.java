@@ -0,0 +1,126 @@
+package app.virtual_games.sudoku.solvers;
+
+import app.virtual_games.sudoku.models.PuzzleDifficulty;
+
+/**
+ * Immutable result of grading a puzzle with the {@link LogicalSolver}: how often each
+ * {@link Technique} made progress, the resulting score, and whether the techniques were enough to
+ * solve the puzzle.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public final class DifficultyGrade
+{
+  /**
+   * Score added when the techniques aren't enough to solve the puzzle (i.e. guessing is needed).
+   */
+  public static final int UNSOLVED_PENALTY = 1000;
+
+  private final int[] puzzle;
+  private final int[] techniqueCounts;
+  private final boolean isSolved;
+  private final int score;
+  private final Technique hardestTechnique;
+
+  /**
+   * Initializes the grade and calculates {@link #score} and {@link #hardestTechnique}.
+   *
+   * @param puzzle          : flat array of the values placed by the techniques (0 —> unsolved cell)
+   * @param techniqueCounts : number of times each technique made progress, by ordinal
+   * @param isSolved        : true —> techniques solved the puzzle; false —> techniques got stuck
+   */
+  DifficultyGrade(int[] puzzle, int[] techniqueCounts, boolean isSolved)
+  {
+    this.puzzle = puzzle;
+    this.techniqueCounts = techniqueCounts;
+    this.isSolved = isSolved;
+
+    Technique hardest = null;
+    int total = isSolved ? 0 : UNSOLVED_PENALTY;
+
+    for (Technique technique : Technique.values())
+    {
+      if (techniqueCounts[technique.ordinal()] > 0)
+      {
+        hardest = technique;
+        total += techniqueCounts[technique.ordinal()] * technique.getWeight();
+      }
+    }
+
+    this.hardestTechnique = hardest;
+    this.score = total;
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Retrieves the number of times a technique made progress.
+   *
+   * @param technique : solving technique
+   * @return int : number of applications
+   */
+  public int getTechniqueCount(Technique technique)
+  {
+    return this.techniqueCounts[technique.ordinal()];
+  }
+
+  /**
+   * Retrieves the difficulty of the puzzle: the difficulty of the hardest technique it needs, or
+   * {@link PuzzleDifficulty#HARD} if the techniques aren't enough.
+   *
+   * @return PuzzleDifficulty : graded puzzle difficulty
+   */
+  public PuzzleDifficulty getDifficulty()
+  {
+    if (!this.isSolved)
+    {
+      return PuzzleDifficulty.HARD;
+    }
+
+    return this.hardestTechnique != null ? this.hardestTechnique.getDifficulty() : PuzzleDifficulty.EASY;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves a copy of {@link #puzzle}.
+   *
+   * @return int[] : array of the values placed by the techniques (0 —> unsolved cell)
+   */
+  public int[] getPuzzle()
+  {
+    return this.puzzle.clone();
+  }
+
+  /**
+   * Retrieves {@link #isSolved}.
+   *
+   * @return boolean : true —> techniques solved the puzzle; false —> techniques got stuck
+   */
+  public boolean getIsSolved()
+  {
+    return this.isSolved;
+  }
+
+  /**
+   * Retrieves {@link #score}: the weight of each technique times the number of times it made
+   * progress, plus {@link #UNSOLVED_PENALTY} if the techniques got stuck.
+   *
+   * @return int : difficulty score
+   */
+  public int getScore()
+  {
+    return this.score;
+  }
+
+  /**
+   * Retrieves {@link #hardestTechnique}.
+   *
+   * @return Technique : hardest technique needed; null —> no technique needed
+   */
+  public Technique getHardestTechnique()
+  {
+    return this.hardestTechnique;
+  }
+}
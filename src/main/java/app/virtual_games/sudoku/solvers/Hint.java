@@ -0,0 +1,74 @@
+package app.virtual_games.sudoku.solvers;
+
+/**
+ * Immutable next logical deduction found by the {@link LogicalSolver}: the value that can be placed
+ * in a cell, the technique it needs, and the cells whose values support it.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public final class Hint
+{
+  private final Technique technique;
+  private final int cellIndex;
+  private final int value;
+  private final int[] supportingCells;
+
+  /**
+   * Initializes the hint.
+   *
+   * @param technique       : hardest technique needed to reach the deduction
+   * @param cellIndex       : index of the deduced cell in the puzzle array
+   * @param value           : deduced cell value
+   * @param supportingCells : indices of the filled cells that rule out the alternatives
+   */
+  Hint(Technique technique, int cellIndex, int value, int[] supportingCells)
+  {
+    this.technique = technique;
+    this.cellIndex = cellIndex;
+    this.value = value;
+    this.supportingCells = supportingCells;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #technique}.
+   *
+   * @return Technique : hardest technique needed to reach the deduction
+   */
+  public Technique getTechnique()
+  {
+    return this.technique;
+  }
+
+  /**
+   * Retrieves {@link #cellIndex}.
+   *
+   * @return int : index of the deduced cell in the puzzle array
+   */
+  public int getCellIndex()
+  {
+    return this.cellIndex;
+  }
+
+  /**
+   * Retrieves {@link #value}.
+   *
+   * @return int : deduced cell value
+   */
+  public int getValue()
+  {
+    return this.value;
+  }
+
+  /**
+   * Retrieves a copy of {@link #supportingCells}.
+   *
+   * @return int[] : indices of the filled cells that rule out the alternatives
+   */
+  public int[] getSupportingCells()
+  {
+    return this.supportingCells.clone();
+  }
+}
@@ -0,0 +1,980 @@
+package app.virtual_games.sudoku.solvers;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import app.virtual_games.sudoku.models.CellPeers;
+
+/**
+ * Solves puzzles the way a person would, without guessing, and grades them by the techniques they
+ * need. Each empty cell's candidates are kept as a bitmask (bit 0 —> value 1, bit 1 —> value 2,
+ * etc.) and narrowed by the {@link Technique}s, always retrying the simplest technique after any
+ * progress. The resulting {@link DifficultyGrade} records how often each technique was needed, and
+ * the same techniques find the next {@link Hint} from a game in progress.
+ *
+ * The solver only holds immutable lookup tables; every call to {@link #grade} or {@link #findHint}
+ * works on its own {@link Grid}, so one instance can be shared by any number of threads.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class LogicalSolver
+{
+  private static final Technique[] TECHNIQUES = Technique.values();
+
+  private final int blockSize;
+  private final int puzzleSize;
+  private final int totalCells;
+  private final int allValues;
+  private final CellPeers cellPeers;
+
+  private final int[] cellRows;
+  private final int[] cellCols;
+  private final int[] cellBlocks;
+  private final int[][] units;
+
+  /**
+   * Initializes the puzzle dimensions and the unit lookup tables (rows, then columns, then blocks).
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block (e.g. 3 —> 9x9 puzzle)
+   */
+  public LogicalSolver(int blockSize)
+  {
+    this.blockSize = blockSize;
+    this.puzzleSize = blockSize * blockSize;
+    this.totalCells = this.puzzleSize * this.puzzleSize;
+    this.allValues = (1 << this.puzzleSize) - 1;
+    this.cellPeers = CellPeers.forBlockSize(blockSize);
+
+    this.cellRows = new int[this.totalCells];
+    this.cellCols = new int[this.totalCells];
+    this.cellBlocks = new int[this.totalCells];
+    this.units = new int[3 * this.puzzleSize][];
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      this.cellRows[cellIndex] = cellIndex / this.puzzleSize;
+      this.cellCols[cellIndex] = cellIndex % this.puzzleSize;
+      this.cellBlocks[cellIndex] = this.cellPeers.getBlockId(cellIndex);
+    }
+
+    for (var unit = 0; unit < this.puzzleSize; unit++)
+    {
+      this.units[unit] = this.cellPeers.getRowCells(unit);
+      this.units[this.puzzleSize + unit] = this.cellPeers.getColCells(unit);
+      this.units[(2 * this.puzzleSize) + unit] = this.cellPeers.getBlockCells(unit);
+    }
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Solves the puzzle with the techniques alone and grades it. The initial puzzle is never modified.
+   *
+   * @throws IllegalArgumentException
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return DifficultyGrade : techniques needed, score, and values placed
+   */
+  public DifficultyGrade grade(int[] initialPuzzle) throws IllegalArgumentException
+  {
+    Grid grid = this.loadGrid(initialPuzzle);
+    var techniqueCounts = new int[TECHNIQUES.length];
+    var isProgressing = true;
+
+    while (grid.emptyCells > 0 && !grid.isBroken && isProgressing)
+    {
+      isProgressing = this.applySimplestTechnique(grid, techniqueCounts);
+    }
+
+    return new DifficultyGrade(grid.puzzle, techniqueCounts, grid.emptyCells == 0 && !grid.isBroken);
+  }
+
+  /**
+   * Finds the cheapest next placement from a game in progress: the first single, after applying as
+   * few and as simple elimination techniques as possible. The search gives up once the time budget
+   * is spent. The puzzle is never modified.
+   *
+   * @throws IllegalArgumentException
+   * @param currentPuzzle : flat array of the initial and correctly placed values (0 —> empty cell)
+   * @param timeBudget    : maximum search time
+   * @return Hint : next deduction; null —> no technique applies, the puzzle is complete or
+   *         contradictory, or the time budget ran out
+   */
+  public Hint findHint(int[] currentPuzzle, Duration timeBudget) throws IllegalArgumentException
+  {
+    Grid grid = this.loadGrid(currentPuzzle);
+    long deadline = System.nanoTime() + timeBudget.toNanos();
+    Technique hardestTechnique = null;
+
+    while (grid.emptyCells > 0 && !grid.isBroken && System.nanoTime() - deadline < 0)
+    {
+      Hint hint = this.findSingle(grid, hardestTechnique);
+
+      if (hint != null)
+      {
+        return hint;
+      }
+
+      Technique technique = this.applySimplestElimination(grid);
+
+      if (technique == null)
+      {
+        return null;
+      }
+
+      if (hardestTechnique == null || technique.ordinal() > hardestTechnique.ordinal())
+      {
+        hardestTechnique = technique;
+      }
+    }
+
+    return null;
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Loads a grid with the values of the puzzle.
+   *
+   * @throws IllegalArgumentException
+   * @param puzzle : flat array of sudoku values (0 —> empty cell)
+   * @return Grid : grading state (broken —> values conflict)
+   */
+  private Grid loadGrid(int[] puzzle) throws IllegalArgumentException
+  {
+    if (puzzle.length != this.totalCells)
+    {
+      throw new IllegalArgumentException(String.format("Puzzle must have %d cells", this.totalCells));
+    }
+
+    var grid = new Grid(this.totalCells, this.allValues);
+
+    for (var cellIndex = 0; cellIndex < this.totalCells && !grid.isBroken; cellIndex++)
+    {
+      int value = puzzle[cellIndex];
+
+      if (value < 0 || value > this.puzzleSize)
+      {
+        throw new IllegalArgumentException(String.format("Unsupported value %d in cell %d", value, cellIndex));
+      } else if (value > 0)
+      {
+        if ((grid.candidates[cellIndex] & (1 << (value - 1))) == 0)
+        {
+          grid.isBroken = true; // values conflict
+        } else
+        {
+          this.place(grid, cellIndex, value);
+        }
+      }
+    }
+
+    return grid;
+  }
+
+  /**
+   * Applies the simplest elimination technique (i.e. anything but the singles) that makes progress.
+   *
+   * @param grid : grading state
+   * @return Technique : applied technique; null —> every elimination technique is stuck
+   */
+  private Technique applySimplestElimination(Grid grid)
+  {
+    for (var ordinal = Technique.POINTING.ordinal(); ordinal < TECHNIQUES.length; ordinal++)
+    {
+      if (this.applyTechnique(grid, TECHNIQUES[ordinal]) > 0)
+      {
+        return TECHNIQUES[ordinal];
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Finds the first naked single, or else the first hidden single, without placing it.
+   *
+   * @param grid                 : grading state
+   * @param eliminationTechnique : hardest elimination technique applied so far; null —> none
+   * @return Hint : single; null —> no single left
+   */
+  private Hint findSingle(Grid grid, Technique eliminationTechnique)
+  {
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      int candidates = grid.candidates[cellIndex];
+
+      if (candidates != 0 && (candidates & (candidates - 1)) == 0)
+      {
+        int value = Integer.numberOfTrailingZeros(candidates) + 1;
+
+        return new Hint(eliminationTechnique != null ? eliminationTechnique : Technique.NAKED_SINGLE, cellIndex, value,
+            this.findNakedSingleSupport(grid, cellIndex, value));
+      }
+    }
+
+    for (int[] unit : this.units)
+    {
+      var once = 0;
+      var twice = 0;
+
+      for (int cellIndex : unit)
+      {
+        twice |= once & grid.candidates[cellIndex];
+        once |= grid.candidates[cellIndex];
+      }
+
+      int singles = once & ~twice;
+
+      if (singles != 0)
+      {
+        int valueBit = singles & -singles;
+
+        for (int cellIndex : unit)
+        {
+          if ((grid.candidates[cellIndex] & valueBit) != 0)
+          {
+            int value = Integer.numberOfTrailingZeros(valueBit) + 1;
+
+            return new Hint(eliminationTechnique != null ? eliminationTechnique : Technique.HIDDEN_SINGLE, cellIndex,
+                value, this.findHiddenSingleSupport(grid, unit, cellIndex, value));
+          }
+        }
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Finds, for every other value, a filled peer of the cell that holds it.
+   *
+   * @param grid      : grading state
+   * @param cellIndex : index of the naked single in the puzzle array
+   * @param value     : value of the naked single
+   * @return int[] : indices of the supporting cells
+   */
+  private int[] findNakedSingleSupport(Grid grid, int cellIndex, int value)
+  {
+    var supportingCells = new int[this.puzzleSize];
+    var supportCount = 0;
+    int remainingValues = this.allValues & ~(1 << (value - 1));
+
+    for (int peer : this.cellPeers.getPeerCells(cellIndex))
+    {
+      int peerBit = grid.puzzle[peer] > 0 ? 1 << (grid.puzzle[peer] - 1) : 0;
+
+      if ((remainingValues & peerBit) != 0)
+      {
+        supportingCells[supportCount++] = peer;
+        remainingValues &= ~peerBit;
+      }
+    }
+
+    return Arrays.copyOf(supportingCells, supportCount);
+  }
+
+  /**
+   * Finds, for every other empty cell of the unit, a filled peer that holds the value.
+   *
+   * @param grid      : grading state
+   * @param unit      : cell indices of the unit
+   * @param cellIndex : index of the hidden single in the puzzle array
+   * @param value     : value of the hidden single
+   * @return int[] : indices of the supporting cells
+   */
+  private int[] findHiddenSingleSupport(Grid grid, int[] unit, int cellIndex, int value)
+  {
+    var supportingCells = new int[this.puzzleSize];
+    var supportCount = 0;
+
+    for (int unitCell : unit)
+    {
+      if (unitCell == cellIndex || grid.puzzle[unitCell] > 0)
+      {
+        continue;
+      }
+
+      for (int peer : this.cellPeers.getPeerCells(unitCell))
+      {
+        if (grid.puzzle[peer] == value)
+        {
+          if (Arrays.stream(supportingCells, 0, supportCount).noneMatch(supportingCell -> supportingCell == peer))
+          {
+            supportingCells[supportCount++] = peer;
+          }
+
+          break;
+        }
+      }
+    }
+
+    return Arrays.copyOf(supportingCells, supportCount);
+  }
+
+  /**
+   * Applies the simplest technique that makes progress.
+   *
+   * @param grid            : grading state
+   * @param techniqueCounts : number of times each technique made progress (updated in place)
+   * @return boolean : true —> progress made; false —> every technique is stuck
+   */
+  private boolean applySimplestTechnique(Grid grid, int[] techniqueCounts)
+  {
+    for (Technique technique : TECHNIQUES)
+    {
+      int progress = this.applyTechnique(grid, technique);
+
+      if (progress > 0)
+      {
+        techniqueCounts[technique.ordinal()] += progress;
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Applies a technique.
+   *
+   * @param grid      : grading state
+   * @param technique : solving technique
+   * @return int : number of placements (singles) or productive eliminations (everything else)
+   */
+  private int applyTechnique(Grid grid, Technique technique)
+  {
+    switch (technique)
+    {
+      case NAKED_SINGLE:
+        return this.applyNakedSingles(grid);
+      case HIDDEN_SINGLE:
+        return this.applyHiddenSingles(grid);
+      case POINTING:
+        return this.applyPointing(grid) ? 1 : 0;
+      case BOX_LINE_REDUCTION:
+        return this.applyBoxLineReduction(grid) ? 1 : 0;
+      case NAKED_PAIR:
+        return this.applyNakedSubset(grid, 2) ? 1 : 0;
+      case HIDDEN_PAIR:
+        return this.applyHiddenSubset(grid, 2) ? 1 : 0;
+      case NAKED_TRIPLE:
+        return this.applyNakedSubset(grid, 3) ? 1 : 0;
+      case HIDDEN_TRIPLE:
+        return this.applyHiddenSubset(grid, 3) ? 1 : 0;
+      case X_WING:
+        return this.applyFish(grid, 2) ? 1 : 0;
+      case SWORDFISH:
+        return this.applyFish(grid, 3) ? 1 : 0;
+      case XY_WING:
+        return this.applyXYWing(grid) ? 1 : 0;
+      default:
+        return 0;
+    }
+  }
+
+  /**
+   * Places every value that is the only candidate of its cell.
+   *
+   * @param grid : grading state
+   * @return int : number of values placed
+   */
+  private int applyNakedSingles(Grid grid)
+  {
+    var placements = 0;
+
+    for (var cellIndex = 0; cellIndex < this.totalCells && !grid.isBroken; cellIndex++)
+    {
+      int candidates = grid.candidates[cellIndex];
+
+      if (candidates != 0 && (candidates & (candidates - 1)) == 0)
+      {
+        this.place(grid, cellIndex, Integer.numberOfTrailingZeros(candidates) + 1);
+        placements++;
+      }
+    }
+
+    return placements;
+  }
+
+  /**
+   * Places every value that fits in only one cell of a unit.
+   *
+   * @param grid : grading state
+   * @return int : number of values placed
+   */
+  private int applyHiddenSingles(Grid grid)
+  {
+    var placements = 0;
+
+    for (int[] unit : this.units)
+    {
+      var placed = 0;
+      var once = 0;
+      var twice = 0;
+
+      for (int cellIndex : unit)
+      {
+        int candidates = grid.candidates[cellIndex];
+
+        placed |= grid.puzzle[cellIndex] > 0 ? 1 << (grid.puzzle[cellIndex] - 1) : 0;
+        twice |= once & candidates;
+        once |= candidates;
+      }
+
+      if ((placed | once) != this.allValues)
+      {
+        grid.isBroken = true; // a value has nowhere left to go
+        return placements;
+      }
+
+      for (int singles = once & ~twice; singles != 0 && !grid.isBroken; singles &= singles - 1)
+      {
+        int valueBit = singles & -singles;
+
+        for (int cellIndex : unit)
+        {
+          if ((grid.candidates[cellIndex] & valueBit) != 0)
+          {
+            this.place(grid, cellIndex, Integer.numberOfTrailingZeros(valueBit) + 1);
+            placements++;
+            break;
+          }
+        }
+      }
+    }
+
+    return placements;
+  }
+
+  /**
+   * Eliminates a value from the rest of a row (or column) when all of a block's candidates for it lie
+   * in that row (or column).
+   *
+   * @param grid : grading state
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean applyPointing(Grid grid)
+  {
+    for (var blockId = 0; blockId < this.puzzleSize; blockId++)
+    {
+      int[] blockCells = this.units[(2 * this.puzzleSize) + blockId];
+
+      for (var valueBit = 1; valueBit <= this.allValues; valueBit <<= 1)
+      {
+        var rows = 0;
+        var cols = 0;
+
+        for (int cellIndex : blockCells)
+        {
+          if ((grid.candidates[cellIndex] & valueBit) != 0)
+          {
+            rows |= 1 << this.cellRows[cellIndex];
+            cols |= 1 << this.cellCols[cellIndex];
+          }
+        }
+
+        if (rows != 0 && (rows & (rows - 1)) == 0 && this.eliminateOutsideBlock(grid,
+            this.units[Integer.numberOfTrailingZeros(rows)], blockId, valueBit))
+        {
+          return true;
+        }
+
+        if (cols != 0 && (cols & (cols - 1)) == 0 && this.eliminateOutsideBlock(grid,
+            this.units[this.puzzleSize + Integer.numberOfTrailingZeros(cols)], blockId, valueBit))
+        {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Eliminates a value from the rest of a block when all of a row's (or column's) candidates for it
+   * lie in that block.
+   *
+   * @param grid : grading state
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean applyBoxLineReduction(Grid grid)
+  {
+    for (var line = 0; line < 2 * this.puzzleSize; line++)
+    {
+      int[] lineCells = this.units[line];
+
+      for (var valueBit = 1; valueBit <= this.allValues; valueBit <<= 1)
+      {
+        var blocks = 0;
+
+        for (int cellIndex : lineCells)
+        {
+          if ((grid.candidates[cellIndex] & valueBit) != 0)
+          {
+            blocks |= 1 << this.cellBlocks[cellIndex];
+          }
+        }
+
+        if (blocks != 0 && (blocks & (blocks - 1)) == 0)
+        {
+          var isEliminated = false;
+
+          for (int cellIndex : this.units[(2 * this.puzzleSize) + Integer.numberOfTrailingZeros(blocks)])
+          {
+            boolean isOnLine = line < this.puzzleSize ? this.cellRows[cellIndex] == line
+                : this.cellCols[cellIndex] == line - this.puzzleSize;
+
+            isEliminated |= !isOnLine && this.eliminate(grid, cellIndex, valueBit);
+          }
+
+          if (isEliminated)
+          {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Finds cells of a unit that share exactly as many candidates as there are cells (e.g. two cells
+   * with the same two candidates), and eliminates those candidates from the rest of the unit.
+   *
+   * @param grid       : grading state
+   * @param subsetSize : number of cells in the subset (2 —> pair, 3 —> triple)
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean applyNakedSubset(Grid grid, int subsetSize)
+  {
+    var masks = new int[this.puzzleSize];
+    var positions = new int[this.puzzleSize];
+
+    for (int[] unit : this.units)
+    {
+      var count = 0;
+
+      for (var position = 0; position < unit.length; position++)
+      {
+        int candidateCount = Integer.bitCount(grid.candidates[unit[position]]);
+
+        if (candidateCount >= 2 && candidateCount <= subsetSize)
+        {
+          masks[count] = grid.candidates[unit[position]];
+          positions[count++] = position;
+        }
+      }
+
+      if (count >= subsetSize && this.findSubset(grid, unit, masks, positions, count, subsetSize, 0, 0, 0, 0, false))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Finds values that fit in exactly as many cells of a unit as there are values (e.g. two values
+   * that only fit in the same two cells), and eliminates every other candidate from those cells.
+   *
+   * @param grid       : grading state
+   * @param subsetSize : number of values in the subset (2 —> pair, 3 —> triple)
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean applyHiddenSubset(Grid grid, int subsetSize)
+  {
+    var masks = new int[this.puzzleSize];
+    var valueBits = new int[this.puzzleSize];
+
+    for (int[] unit : this.units)
+    {
+      var count = 0;
+
+      for (var valueBit = 1; valueBit <= this.allValues; valueBit <<= 1)
+      {
+        var cells = 0;
+
+        for (var position = 0; position < unit.length; position++)
+        {
+          cells |= (grid.candidates[unit[position]] & valueBit) != 0 ? 1 << position : 0;
+        }
+
+        if (Integer.bitCount(cells) >= 2 && Integer.bitCount(cells) <= subsetSize)
+        {
+          masks[count] = cells;
+          valueBits[count++] = valueBit;
+        }
+      }
+
+      if (count >= subsetSize && this.findSubset(grid, unit, masks, valueBits, count, subsetSize, 0, 0, 0, 0, true))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Recursively picks subsets of the masks whose union has exactly as many bits as the subset has
+   * masks, and applies the first one that eliminates a candidate.
+   *
+   * @param grid       : grading state
+   * @param unit       : cell indices of the unit
+   * @param masks      : candidate masks (naked) or cell position masks (hidden)
+   * @param keys       : unit position (naked) or value bit (hidden) of each mask
+   * @param count      : number of masks
+   * @param subsetSize : number of masks in the subset
+   * @param start      : first mask to pick from
+   * @param depth      : number of masks picked so far
+   * @param union      : union of the picked masks
+   * @param picked     : union of the keys of the picked masks (naked —> position bits)
+   * @param isHidden   : true —> hidden subset; false —> naked subset
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean findSubset(Grid grid, int[] unit, int[] masks, int[] keys, int count, int subsetSize, int start,
+      int depth, int union, int picked, boolean isHidden)
+  {
+    if (depth == subsetSize)
+    {
+      return Integer.bitCount(union) == subsetSize && this.applySubset(grid, unit, union, picked, isHidden);
+    }
+
+    for (int maskIndex = start; maskIndex <= count - (subsetSize - depth); maskIndex++)
+    {
+      int newUnion = union | masks[maskIndex];
+      int key = isHidden ? keys[maskIndex] : 1 << keys[maskIndex];
+
+      if (Integer.bitCount(newUnion) <= subsetSize
+          && this.findSubset(grid, unit, masks, keys, count, subsetSize, maskIndex + 1, depth + 1, newUnion,
+              picked | key, isHidden))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Applies a naked or hidden subset.
+   *
+   * @param grid     : grading state
+   * @param unit     : cell indices of the unit
+   * @param union    : candidates of the subset (naked) or positions of the subset (hidden)
+   * @param picked   : positions of the subset (naked) or values of the subset (hidden)
+   * @param isHidden : true —> hidden subset; false —> naked subset
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean applySubset(Grid grid, int[] unit, int union, int picked, boolean isHidden)
+  {
+    var isEliminated = false;
+
+    for (var position = 0; position < unit.length; position++)
+    {
+      if (isHidden && (union & (1 << position)) != 0)
+      {
+        isEliminated |= this.eliminate(grid, unit[position], this.allValues & ~picked);
+      } else if (!isHidden && (picked & (1 << position)) == 0)
+      {
+        isEliminated |= this.eliminate(grid, unit[position], union);
+      }
+    }
+
+    return isEliminated;
+  }
+
+  /**
+   * Finds a value whose candidates in some rows (or columns) all lie in as many columns (or rows),
+   * and eliminates it from the rest of those columns (or rows).
+   *
+   * @param grid     : grading state
+   * @param fishSize : number of base lines (2 —> X—Wing, 3 —> Swordfish)
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean applyFish(Grid grid, int fishSize)
+  {
+    var masks = new int[this.puzzleSize];
+    var lines = new int[this.puzzleSize];
+
+    for (var valueBit = 1; valueBit <= this.allValues; valueBit <<= 1)
+    {
+      for (var baseOffset = 0; baseOffset <= this.puzzleSize; baseOffset += this.puzzleSize)
+      {
+        var count = 0;
+
+        for (var line = 0; line < this.puzzleSize; line++)
+        {
+          int[] lineCells = this.units[baseOffset + line];
+          var crossLines = 0;
+
+          for (var position = 0; position < lineCells.length; position++)
+          {
+            crossLines |= (grid.candidates[lineCells[position]] & valueBit) != 0 ? 1 << position : 0;
+          }
+
+          if (Integer.bitCount(crossLines) >= 2 && Integer.bitCount(crossLines) <= fishSize)
+          {
+            masks[count] = crossLines;
+            lines[count++] = line;
+          }
+        }
+
+        if (count >= fishSize
+            && this.findFish(grid, valueBit, baseOffset, masks, lines, count, fishSize, 0, 0, 0, 0))
+        {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Recursively picks base lines whose candidates cover exactly as many cross lines, and applies the
+   * first fish that eliminates a candidate.
+   *
+   * @param grid       : grading state
+   * @param valueBit   : value of the fish
+   * @param baseOffset : 0 —> rows are the base lines; puzzle size —> columns are the base lines
+   * @param masks      : cross line positions of each base line's candidates
+   * @param lines      : base line of each mask
+   * @param count      : number of masks
+   * @param fishSize   : number of base lines in the fish
+   * @param start      : first mask to pick from
+   * @param depth      : number of base lines picked so far
+   * @param union      : cross lines covered by the picked base lines
+   * @param picked     : picked base lines
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean findFish(Grid grid, int valueBit, int baseOffset, int[] masks, int[] lines, int count,
+      int fishSize, int start, int depth, int union, int picked)
+  {
+    if (depth == fishSize)
+    {
+      if (Integer.bitCount(union) != fishSize)
+      {
+        return false;
+      }
+
+      int crossOffset = this.puzzleSize - baseOffset;
+      var isEliminated = false;
+
+      for (int crossLines = union; crossLines != 0; crossLines &= crossLines - 1)
+      {
+        int[] crossCells = this.units[crossOffset + Integer.numberOfTrailingZeros(crossLines)];
+
+        for (var position = 0; position < crossCells.length; position++)
+        {
+          isEliminated |= (picked & (1 << position)) == 0 && this.eliminate(grid, crossCells[position], valueBit);
+        }
+      }
+
+      return isEliminated;
+    }
+
+    for (int maskIndex = start; maskIndex <= count - (fishSize - depth); maskIndex++)
+    {
+      int newUnion = union | masks[maskIndex];
+
+      if (Integer.bitCount(newUnion) <= fishSize && this.findFish(grid, valueBit, baseOffset, masks, lines, count,
+          fishSize, maskIndex + 1, depth + 1, newUnion, picked | (1 << lines[maskIndex])))
+      {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Finds a pivot cell with candidates {x, y} that sees a wing with {x, z} and a wing with {y, z},
+   * and eliminates z from every cell that sees both wings.
+   *
+   * @param grid : grading state
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean applyXYWing(Grid grid)
+  {
+    for (var pivot = 0; pivot < this.totalCells; pivot++)
+    {
+      int pivotCandidates = grid.candidates[pivot];
+
+      if (Integer.bitCount(pivotCandidates) != 2)
+      {
+        continue;
+      }
+
+      int[] pivotPeers = this.cellPeers.getPeerCells(pivot);
+
+      for (int firstWing : pivotPeers)
+      {
+        int firstCandidates = grid.candidates[firstWing];
+        int sharedValue = firstCandidates & pivotCandidates;
+
+        if (Integer.bitCount(firstCandidates) != 2 || Integer.bitCount(sharedValue) != 1)
+        {
+          continue;
+        }
+
+        int eliminatedValue = firstCandidates & ~pivotCandidates;
+        int secondCandidates = (pivotCandidates & ~sharedValue) | eliminatedValue;
+
+        for (int secondWing : pivotPeers)
+        {
+          if (grid.candidates[secondWing] == secondCandidates && this.eliminateFromCommonPeers(grid, firstWing,
+              secondWing, eliminatedValue))
+          {
+            return true;
+          }
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * Eliminates a value from every cell that sees both cells.
+   *
+   * @param grid       : grading state
+   * @param firstCell  : index of the first cell
+   * @param secondCell : index of the second cell
+   * @param valueBit   : value to eliminate
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean eliminateFromCommonPeers(Grid grid, int firstCell, int secondCell, int valueBit)
+  {
+    var isEliminated = false;
+
+    for (int peer : this.cellPeers.getPeerCells(firstCell))
+    {
+      if (peer != secondCell && (grid.candidates[peer] & valueBit) != 0 && this.isPeer(peer, secondCell))
+      {
+        isEliminated |= this.eliminate(grid, peer, valueBit);
+      }
+    }
+
+    return isEliminated;
+  }
+
+  /**
+   * Eliminates a value from the cells of a row (or column) outside a block.
+   *
+   * @param grid      : grading state
+   * @param lineCells : cell indices of the row (or column)
+   * @param blockId   : block to skip
+   * @param valueBit  : value to eliminate
+   * @return boolean : true —> candidates eliminated; false —> no progress
+   */
+  private boolean eliminateOutsideBlock(Grid grid, int[] lineCells, int blockId, int valueBit)
+  {
+    var isEliminated = false;
+
+    for (int cellIndex : lineCells)
+    {
+      isEliminated |= this.cellBlocks[cellIndex] != blockId && this.eliminate(grid, cellIndex, valueBit);
+    }
+
+    return isEliminated;
+  }
+
+  /**
+   * Determines whether two cells share a row, column, or block.
+   *
+   * @param firstCell  : index of the first cell
+   * @param secondCell : index of the second cell
+   * @return boolean : true —> peers; false —> not peers
+   */
+  private boolean isPeer(int firstCell, int secondCell)
+  {
+    return this.cellRows[firstCell] == this.cellRows[secondCell]
+        || this.cellCols[firstCell] == this.cellCols[secondCell]
+        || this.cellBlocks[firstCell] == this.cellBlocks[secondCell];
+  }
+
+  /**
+   * Places a value and removes it from the candidates of the cell's peers.
+   *
+   * @param grid      : grading state
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param value     : value to place
+   */
+  private void place(Grid grid, int cellIndex, int value)
+  {
+    grid.puzzle[cellIndex] = value;
+    grid.candidates[cellIndex] = 0;
+    grid.emptyCells--;
+
+    for (int peer : this.cellPeers.getPeerCells(cellIndex))
+    {
+      this.eliminate(grid, peer, 1 << (value - 1));
+    }
+  }
+
+  /**
+   * Removes candidates from an empty cell, flagging the grid as broken if none are left.
+   *
+   * @param grid      : grading state
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param values    : candidates to remove
+   * @return boolean : true —> candidates removed; false —> no candidate to remove
+   */
+  private boolean eliminate(Grid grid, int cellIndex, int values)
+  {
+    int candidates = grid.candidates[cellIndex];
+
+    if ((candidates & values) == 0)
+    {
+      return false;
+    }
+
+    grid.candidates[cellIndex] = candidates & ~values;
+    grid.isBroken |= grid.candidates[cellIndex] == 0;
+
+    return true;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #blockSize}.
+   *
+   * @return int : block size
+   */
+  public int getBlockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * Grading state of one puzzle: placed values, candidates of the empty cells, and whether the
+   * puzzle turned out to be contradictory.
+   */
+  private static final class Grid
+  {
+    private final int[] puzzle;
+    private final int[] candidates;
+
+    private int emptyCells;
+    private boolean isBroken;
+
+    /**
+     * Initializes an empty grid where every value is a candidate of every cell.
+     *
+     * @param totalCells : number of cells in the puzzle
+     * @param allValues  : mask of every value
+     */
+    private Grid(int totalCells, int allValues)
+    {
+      this.puzzle = new int[totalCells];
+      this.candidates = new int[totalCells];
+      this.emptyCells = totalCells;
+
+      Arrays.fill(this.candidates, allValues);
+    }
+  }
+}
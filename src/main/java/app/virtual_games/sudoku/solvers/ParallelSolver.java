@@ -0,0 +1,213 @@
+package app.virtual_games.sudoku.solvers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fork/join solver for hard and large puzzles. The top {@link #splitDepth} levels of the search
+ * tree are split into {@link SearchTask}s (one per candidate value, each with its own copy of the
+ * {@link SolverContext}) that the pool's work—stealing threads pick up. Below the split depth each
+ * task runs the sequential {@link BitmaskSolver} search. The first task to find a solution wins and
+ * its siblings are cancelled.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class ParallelSolver implements Solver
+{
+  private static final int DEFAULT_SPLIT_DEPTH = 3;
+
+  private final BitmaskSolver sequentialSolver;
+  private final ForkJoinPool pool;
+  private final int splitDepth;
+
+  /**
+   * Initializes a solver that splits the top three levels of the search tree on the common pool.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block (e.g. 3 —> 9x9 puzzle)
+   */
+  public ParallelSolver(int blockSize)
+  {
+    this(new BitmaskSolver(blockSize), ForkJoinPool.commonPool(), DEFAULT_SPLIT_DEPTH);
+  }
+
+  /**
+   * Initializes {@link #sequentialSolver}, {@link #pool}, and {@link #splitDepth}.
+   *
+   * @param sequentialSolver : solver used below the split depth
+   * @param pool             : pool that runs the search tasks
+   * @param splitDepth       : number of search tree levels that are split into tasks
+   */
+  public ParallelSolver(BitmaskSolver sequentialSolver, ForkJoinPool pool, int splitDepth)
+  {
+    this.sequentialSolver = sequentialSolver;
+    this.pool = pool;
+    this.splitDepth = splitDepth;
+  }
+
+  /**
+   * Solves the puzzle on {@link #pool}.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return int[] : array of correct sudoku values; null —> no solution found
+   */
+  @Override
+  public int[] solve(int[] initialPuzzle)
+  {
+    SolverContext context = this.sequentialSolver.createContext(initialPuzzle);
+
+    if (context == null)
+    {
+      return null; // initial values already conflict
+    }
+
+    return this.pool.invoke(new SearchTask(context, 0, new AtomicBoolean(false)));
+  }
+
+  /**
+   * Counts the solutions of the puzzle with {@link #sequentialSolver}.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @param limit         : maximum number of solutions to count
+   * @return int : number of solutions found (at most the limit)
+   */
+  @Override
+  public int countSolutions(int[] initialPuzzle, int limit)
+  {
+    return this.sequentialSolver.countSolutions(initialPuzzle, limit);
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves the block size of {@link #sequentialSolver}.
+   *
+   * @return int : block size
+   */
+  @Override
+  public int getBlockSize()
+  {
+    return this.sequentialSolver.getBlockSize();
+  }
+
+  /**
+   * Retrieves {@link #splitDepth}.
+   *
+   * @return int : number of search tree levels that are split into tasks
+   */
+  public int getSplitDepth()
+  {
+    return this.splitDepth;
+  }
+
+  /**
+   * Search task rooted at one node of the search tree.
+   */
+  private final class SearchTask extends RecursiveTask<int[]>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final transient SolverContext context;
+    private final int depth;
+    private final AtomicBoolean solved;
+
+    /**
+     * Initializes the task.
+     *
+     * @param context : search state owned by this task
+     * @param depth   : number of empty cells already filled
+     * @param solved  : flag shared by every task of the same solve
+     */
+    private SearchTask(SolverContext context, int depth, AtomicBoolean solved)
+    {
+      this.context = context;
+      this.depth = depth;
+      this.solved = solved;
+    }
+
+    /**
+     * Splits the node into one subtask per candidate value, or searches it sequentially once the
+     * split depth is reached.
+     *
+     * @return int[] : array of correct sudoku values; null —> no solution found or cancelled
+     */
+    @Override
+    protected int[] compute()
+    {
+      if (this.solved.get())
+      {
+        return null; // a sibling already won
+      }
+
+      if (this.depth >= splitDepth || this.depth == this.context.getEmptyCellCount())
+      {
+        return this.searchSequentially();
+      }
+
+      List<SearchTask> subtasks = this.fork(this.context.selectEmptyCell(this.depth,
+          sequentialSolver.getCellSelection()));
+
+      int[] solution = null;
+
+      for (SearchTask subtask : subtasks)
+      {
+        if (solution != null)
+        {
+          subtask.cancel(false); // running subtasks see the solved flag and stop on their own
+        } else
+        {
+          solution = subtask.join(); // the winner may be any sibling, so keep joining until it's found
+        }
+      }
+
+      return solution;
+    }
+
+    /**
+     * Forks one subtask per candidate value of the cell.
+     *
+     * @param cellIndex : index of the branching cell in the puzzle array
+     * @return List<SearchTask> : forked subtasks
+     */
+    private List<SearchTask> fork(int cellIndex)
+    {
+      var subtasks = new ArrayList<SearchTask>();
+      long candidates = this.context.getCandidates(cellIndex);
+
+      while (candidates != 0)
+      {
+        long valueBit = sequentialSolver.getValueOrdering().selectValue(candidates);
+
+        candidates &= ~valueBit;
+
+        SolverContext subcontext = this.context.copy();
+        subcontext.place(cellIndex, Long.numberOfTrailingZeros(valueBit) + 1);
+
+        var subtask = new SearchTask(subcontext, this.depth + 1, this.solved);
+        subtask.fork();
+        subtasks.add(subtask);
+      }
+
+      return subtasks;
+    }
+
+    /**
+     * Runs the sequential search from this node and claims the win if it finds a solution.
+     *
+     * @return int[] : array of correct sudoku values; null —> no solution found or cancelled
+     */
+    private int[] searchSequentially()
+    {
+      if (sequentialSolver.solutionHelper(this.context, this.depth, this.solved)
+          && this.solved.compareAndSet(false, true))
+      {
+        return this.context.getPuzzle();
+      }
+
+      return null;
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package app.virtual_games.sudoku.solvers;
+
+/**
+ * Immutable result of a uniqueness check: the {@link SolutionCount} of the puzzle, plus its solution
+ * when the solution is unique, so the puzzle doesn't need to be solved a second time.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public final class SolutionCheck
+{
+  private final SolutionCount solutionCount;
+  private final int[] solution;
+
+  /**
+   * Initializes the result.
+   *
+   * @param solutionCount : number of solutions
+   * @param solution      : flat array of the unique solution's values; null —> no unique solution
+   */
+  SolutionCheck(SolutionCount solutionCount, int[] solution)
+  {
+    this.solutionCount = solutionCount;
+    this.solution = solution;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #solutionCount}.
+   *
+   * @return SolutionCount : number of solutions
+   */
+  public SolutionCount getSolutionCount()
+  {
+    return this.solutionCount;
+  }
+
+  /**
+   * Retrieves a copy of {@link #solution}.
+   *
+   * @return int[] : flat array of the unique solution's values; null —> no unique solution
+   */
+  public int[] getSolution()
+  {
+    return this.solution != null ? this.solution.clone() : null;
+  }
+}
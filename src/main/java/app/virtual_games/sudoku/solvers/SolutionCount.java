@@ -0,0 +1,63 @@
+package app.virtual_games.sudoku.solvers;
+
+/**
+ * Enum for the number of solutions a puzzle has, as reported by a uniqueness check.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public enum SolutionCount
+{
+  NONE("No Solution"), UNIQUE("Unique Solution"), MULTIPLE("Multiple Solutions");
+
+  /**
+   * Number of solutions a uniqueness check needs to count before it can stop.
+   */
+  public static final int UNIQUENESS_LIMIT = 2;
+
+  private final String label;
+
+  /**
+   * Initializes {@link #label}.
+   *
+   * @param label : label of the solution count
+   */
+  SolutionCount(String label)
+  {
+    this.label = label;
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Retrieves the enum instance that maps to the number of solutions found.
+   *
+   * @param count : number of solutions found
+   * @return SolutionCount : enum instance
+   */
+  public static SolutionCount getEnumInstance(int count)
+  {
+    if (count <= 0)
+    {
+      return NONE;
+    } else if (count == 1)
+    {
+      return UNIQUE;
+    } else
+    {
+      return MULTIPLE;
+    }
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #label} for enum instance.
+   *
+   * @return String : label of the solution count
+   */
+  public String getLabel()
+  {
+    return this.label;
+  }
+}
@@ -0,0 +1,36 @@
+package app.virtual_games.sudoku.solvers;
+
+/**
+ * Enum for the ways a puzzle can be solved.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public enum SolveMode
+{
+  SEQUENTIAL("Sequential"), PARALLEL("Parallel");
+
+  private final String label;
+
+  /**
+   * Initializes {@link #label}.
+   *
+   * @param label : label of the solve mode
+   */
+  SolveMode(String label)
+  {
+    this.label = label;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #label} for enum instance.
+   *
+   * @return String : label of the solve mode
+   */
+  public String getLabel()
+  {
+    return this.label;
+  }
+}
@@ -0,0 +1,61 @@
+package app.virtual_games.sudoku.solvers;
+
+/**
+ * Sudoku solving algorithm. Implementations keep all per—puzzle state in a {@link SolverContext}
+ * (or an equivalent per—call structure), so a single instance can be shared across threads.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public interface Solver
+{
+  /**
+   * Solves the puzzle. The initial puzzle is never modified.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return int[] : array of correct sudoku values; null —> no solution found
+   */
+  int[] solve(int[] initialPuzzle);
+
+  /**
+   * Counts the solutions of the puzzle, stopping as soon as the limit is reached.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @param limit         : maximum number of solutions to count
+   * @return int : number of solutions found (at most the limit)
+   */
+  int countSolutions(int[] initialPuzzle, int limit);
+
+  /**
+   * Determines whether the puzzle has no solution, a unique solution, or multiple solutions. Stops
+   * searching after the second solution.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return SolutionCount : number of solutions
+   */
+  default SolutionCount verifyUniqueness(int[] initialPuzzle)
+  {
+    return SolutionCount.getEnumInstance(this.countSolutions(initialPuzzle, SolutionCount.UNIQUENESS_LIMIT));
+  }
+
+  /**
+   * Determines whether the puzzle has no solution, a unique solution, or multiple solutions, and
+   * solves it when the solution is unique. Counts, then solves, by default.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @return SolutionCheck : number of solutions and the unique solution
+   */
+  default SolutionCheck verifySolution(int[] initialPuzzle)
+  {
+    SolutionCount solutionCount = this.verifyUniqueness(initialPuzzle);
+
+    return new SolutionCheck(solutionCount, solutionCount == SolutionCount.UNIQUE ? this.solve(initialPuzzle) : null);
+  }
+
+  /**
+   * Retrieves the number of rows (or columns) in a sudoku block handled by the solver.
+   *
+   * @return int : block size
+   */
+  int getBlockSize();
+}
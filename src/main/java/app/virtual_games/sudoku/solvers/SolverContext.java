@@ -0,0 +1,225 @@
+package app.virtual_games.sudoku.solvers;
+
+/**
+ * Per—call search state for {@link BitmaskSolver}: the partially solved puzzle, the used—value
+ * bitmasks for each row, column, and block, and the list of cells that were empty initially. The
+ * masks are {@code long}s, so puzzles of up to 64 values (i.e. 64x64) are supported.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class SolverContext
+{
+  private final long allValuesMask;
+  private final int[] cellRows;
+  private final int[] cellCols;
+  private final int[] cellBlocks;
+
+  private final int[] puzzle;
+  private final long[] rowMasks;
+  private final long[] colMasks;
+  private final long[] blockMasks;
+  private final int[] emptyCells;
+  private int emptyCellCount;
+
+  /**
+   * Initializes an empty search state.
+   *
+   * @param puzzleSize : number of rows (or columns) in the puzzle
+   * @param cellRows   : row of each cell
+   * @param cellCols   : column of each cell
+   * @param cellBlocks : block of each cell
+   */
+  SolverContext(int puzzleSize, int[] cellRows, int[] cellCols, int[] cellBlocks)
+  {
+    this.allValuesMask = puzzleSize == Long.SIZE ? -1L : (1L << puzzleSize) - 1;
+    this.cellRows = cellRows;
+    this.cellCols = cellCols;
+    this.cellBlocks = cellBlocks;
+
+    this.puzzle = new int[cellRows.length];
+    this.rowMasks = new long[puzzleSize];
+    this.colMasks = new long[puzzleSize];
+    this.blockMasks = new long[puzzleSize];
+    this.emptyCells = new int[cellRows.length];
+    this.emptyCellCount = 0;
+  }
+
+  /**
+   * Initializes a copy of another search state, so the copy can be searched independently.
+   *
+   * @param other : search state to copy
+   */
+  private SolverContext(SolverContext other)
+  {
+    this.allValuesMask = other.allValuesMask;
+    this.cellRows = other.cellRows;
+    this.cellCols = other.cellCols;
+    this.cellBlocks = other.cellBlocks;
+
+    this.puzzle = other.puzzle.clone();
+    this.rowMasks = other.rowMasks.clone();
+    this.colMasks = other.colMasks.clone();
+    this.blockMasks = other.blockMasks.clone();
+    this.emptyCells = other.emptyCells.clone();
+    this.emptyCellCount = other.emptyCellCount;
+  }
+
+  /**
+   * Copies the initial puzzle and builds the row, column, and block masks from its values.
+   *
+   * @param initialPuzzle : flat array of initial sudoku values
+   * @return boolean : true —> valid initial values; false —> conflicting initial values
+   */
+  boolean load(int[] initialPuzzle)
+  {
+    for (var cellIndex = 0; cellIndex < this.puzzle.length; cellIndex++)
+    {
+      int value = initialPuzzle[cellIndex];
+
+      if (value == 0)
+      {
+        this.emptyCells[this.emptyCellCount++] = cellIndex;
+      } else
+      {
+        if ((this.getUsedValues(cellIndex) & (1L << (value - 1))) != 0)
+        {
+          return false;
+        }
+
+        this.place(cellIndex, value);
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Copies the search state.
+   *
+   * @return SolverContext : independent copy
+   */
+  SolverContext copy()
+  {
+    return new SolverContext(this);
+  }
+
+  /**
+   * Moves the next empty cell to {@code emptyCells[depth]} according to the cell selection
+   * strategy. The cells in {@code emptyCells[0, depth)} are filled and the rest are still empty.
+   *
+   * @param depth         : number of empty cells already filled
+   * @param cellSelection : strategy for choosing the next empty cell
+   * @return int : index of the selected cell in the puzzle array
+   */
+  int selectEmptyCell(int depth, CellSelection cellSelection)
+  {
+    if (cellSelection == CellSelection.MINIMUM_REMAINING_VALUES)
+    {
+      int bestPosition = depth;
+      int fewestCandidates = Integer.MAX_VALUE;
+
+      for (int position = depth; position < this.emptyCellCount; position++)
+      {
+        int candidateCount = Long.bitCount(this.getCandidates(this.emptyCells[position]));
+
+        if (candidateCount < fewestCandidates)
+        {
+          bestPosition = position;
+          fewestCandidates = candidateCount;
+
+          if (candidateCount <= 1)
+          {
+            break; // dead end or forced value, nothing can beat it
+          }
+        }
+      }
+
+      int cellIndex = this.emptyCells[bestPosition];
+
+      this.emptyCells[bestPosition] = this.emptyCells[depth];
+      this.emptyCells[depth] = cellIndex;
+    }
+
+    return this.emptyCells[depth]; // FIRST_EMPTY —> cells stay in row—major order
+  }
+
+  /**
+   * Retrieves the values that can still be placed in the cell.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return long : bitmask of candidate values
+   */
+  long getCandidates(int cellIndex)
+  {
+    return this.allValuesMask & ~this.getUsedValues(cellIndex);
+  }
+
+  /**
+   * Places the value in the cell and marks it as used in the cell's row, column, and block.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param value     : sudoku value
+   */
+  void place(int cellIndex, int value)
+  {
+    long valueBit = 1L << (value - 1);
+
+    this.puzzle[cellIndex] = value;
+    this.rowMasks[this.cellRows[cellIndex]] |= valueBit;
+    this.colMasks[this.cellCols[cellIndex]] |= valueBit;
+    this.blockMasks[this.cellBlocks[cellIndex]] |= valueBit;
+  }
+
+  /**
+   * Removes the value from the cell and marks it as unused in the cell's row, column, and block.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @param value     : sudoku value
+   */
+  void unplace(int cellIndex, int value)
+  {
+    long valueBit = ~(1L << (value - 1));
+
+    this.puzzle[cellIndex] = 0;
+    this.rowMasks[this.cellRows[cellIndex]] &= valueBit;
+    this.colMasks[this.cellCols[cellIndex]] &= valueBit;
+    this.blockMasks[this.cellBlocks[cellIndex]] &= valueBit;
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Retrieves the values already used by the cell's row, column, and block.
+   *
+   * @param cellIndex : index of the cell in the puzzle array
+   * @return long : bitmask of used values
+   */
+  private long getUsedValues(int cellIndex)
+  {
+    return this.rowMasks[this.cellRows[cellIndex]] | this.colMasks[this.cellCols[cellIndex]]
+        | this.blockMasks[this.cellBlocks[cellIndex]];
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #puzzle}.
+   *
+   * @return int[] : array of current sudoku values
+   */
+  public int[] getPuzzle()
+  {
+    return this.puzzle;
+  }
+
+  /**
+   * Retrieves {@link #emptyCellCount}.
+   *
+   * @return int : number of cells that were empty initially
+   */
+  public int getEmptyCellCount()
+  {
+    return this.emptyCellCount;
+  }
+}
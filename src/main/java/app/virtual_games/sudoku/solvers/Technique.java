@@ -0,0 +1,76 @@
+package app.virtual_games.sudoku.solvers;
+
+import app.virtual_games.sudoku.models.PuzzleDifficulty;
+
+/**
+ * Enum for the human solving techniques of the {@link LogicalSolver}, in the order they're tried
+ * (i.e. simplest first). Each technique has a weight, loosely following common human—solver
+ * scoring, that is added to a puzzle's score every time the technique makes progress.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public enum Technique
+{
+  NAKED_SINGLE("Naked Single", 4, PuzzleDifficulty.EASY),
+  HIDDEN_SINGLE("Hidden Single", 14, PuzzleDifficulty.EASY),
+  POINTING("Pointing", 50, PuzzleDifficulty.MEDIUM),
+  BOX_LINE_REDUCTION("Box/Line Reduction", 50, PuzzleDifficulty.MEDIUM),
+  NAKED_PAIR("Naked Pair", 60, PuzzleDifficulty.MEDIUM),
+  HIDDEN_PAIR("Hidden Pair", 70, PuzzleDifficulty.MEDIUM),
+  NAKED_TRIPLE("Naked Triple", 80, PuzzleDifficulty.MEDIUM),
+  HIDDEN_TRIPLE("Hidden Triple", 100, PuzzleDifficulty.MEDIUM),
+  X_WING("X-Wing", 140, PuzzleDifficulty.HARD),
+  SWORDFISH("Swordfish", 150, PuzzleDifficulty.HARD),
+  XY_WING("XY-Wing", 160, PuzzleDifficulty.HARD);
+
+  private final String label;
+  private final int weight;
+  private final PuzzleDifficulty difficulty;
+
+  /**
+   * Initializes {@link #label}, {@link #weight}, and {@link #difficulty}.
+   *
+   * @param label      : label of the technique
+   * @param weight     : score added every time the technique makes progress
+   * @param difficulty : difficulty of a puzzle that needs the technique
+   */
+  Technique(String label, int weight, PuzzleDifficulty difficulty)
+  {
+    this.label = label;
+    this.weight = weight;
+    this.difficulty = difficulty;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #label} for enum instance.
+   *
+   * @return String : label of the technique
+   */
+  public String getLabel()
+  {
+    return this.label;
+  }
+
+  /**
+   * Retrieves {@link #weight} for enum instance.
+   *
+   * @return int : score added every time the technique makes progress
+   */
+  public int getWeight()
+  {
+    return this.weight;
+  }
+
+  /**
+   * Retrieves {@link #difficulty} for enum instance.
+   *
+   * @return PuzzleDifficulty : difficulty of a puzzle that needs the technique
+   */
+  public PuzzleDifficulty getDifficulty()
+  {
+    return this.difficulty;
+  }
+}
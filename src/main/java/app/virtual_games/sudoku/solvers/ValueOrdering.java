@@ -0,0 +1,53 @@
+package app.virtual_games.sudoku.solvers;
+
+import java.util.Random;
+
+/**
+ * Policy that decides which candidate value a solver tests next for a cell.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ValueOrdering
+{
+  /**
+   * Tests candidate values from smallest to largest.
+   */
+  ValueOrdering ASCENDING = Long::lowestOneBit;
+
+  /**
+   * Tests candidate values from largest to smallest.
+   */
+  ValueOrdering DESCENDING = Long::highestOneBit;
+
+  /**
+   * Selects the next candidate value to test.
+   *
+   * @param candidates : non—empty bitmask of untested candidate values (bit 0 —> value 1)
+   * @return long : bitmask with only the selected candidate's bit set
+   */
+  long selectValue(long candidates);
+
+  /**
+   * Retrieves a policy that tests candidate values in random order (e.g. for generating random
+   * complete grids).
+   *
+   * @param random : source of randomness
+   * @return ValueOrdering : random ordering policy
+   */
+  static ValueOrdering random(Random random)
+  {
+    return candidates ->
+    {
+      long remaining = candidates;
+
+      for (int skipped = random.nextInt(Long.bitCount(candidates)); skipped > 0; skipped--)
+      {
+        remaining &= remaining - 1; // clear the lowest candidate
+      }
+
+      return Long.lowestOneBit(remaining);
+    };
+  }
+}
@@ -0,0 +1,140 @@
+package app.virtual_games.sudoku.sources;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import app.virtual_games.sudoku.controllers.ApiController;
+import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+
+/**
+ * {@link PuzzleSource} backed by the 9x9 sudoku API (or any server that answers in its format).
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class ApiPuzzleSource implements PuzzleSource
+{
+  private static final int BLOCK_SIZE = 3;
+  private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+  private final String apiUrl;
+  private final Duration timeout;
+
+  /**
+   * Initializes a source for {@link ApiController#getApiUrl()} with a 10 second timeout.
+   */
+  public ApiPuzzleSource()
+  {
+    this(ApiController.getApiUrl(), DEFAULT_TIMEOUT);
+  }
+
+  /**
+   * Initializes {@link #apiUrl} and {@link #timeout}.
+   *
+   * @param apiUrl  : API URL template (%d —> difficulty), e.g. a local stub server
+   * @param timeout : request timeout
+   */
+  public ApiPuzzleSource(String apiUrl, Duration timeout)
+  {
+    this.apiUrl = apiUrl;
+    this.timeout = timeout;
+  }
+
+  /**
+   * Retrieves a sudoku puzzle with the corresponding difficulty from {@link ApiController}.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return List<Square> : list of initial sudoku cells
+   * @throws SudokuPuzzleException
+   */
+  @Override
+  public List<Square> getSudokuPuzzle(int difficultyId) throws SudokuPuzzleException
+  {
+    return ApiController.getSudokuPuzzle(this.apiUrl, difficultyId, this.timeout);
+  }
+
+  /**
+   * Retrieves a sudoku puzzle with the corresponding difficulty from {@link ApiController} without
+   * blocking a thread on the HTTP exchange.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return CompletableFuture<List<Square>> : list of initial sudoku cells
+   */
+  @Override
+  public CompletableFuture<List<Square>> getSudokuPuzzleAsync(int difficultyId)
+  {
+    return ApiController.getSudokuPuzzleAsync(this.apiUrl, difficultyId, this.timeout);
+  }
+
+  /**
+   * Retrieves a sudoku puzzle like {@link #getSudokuPuzzleAsync}, then checks and solves it on the
+   * executor. Cancelling the returned future (or letting it time out) also cancels the HTTP exchange.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @param executor     : executor that checks and solves the puzzle
+   * @return CompletableFuture<SudokuPuzzle> : checked and solved sudoku puzzle
+   */
+  @Override
+  public CompletableFuture<SudokuPuzzle> getPuzzleAsync(int difficultyId, Executor executor)
+  {
+    CompletableFuture<List<Square>> cellsFuture = this.getSudokuPuzzleAsync(difficultyId);
+    CompletableFuture<SudokuPuzzle> puzzleFuture = cellsFuture
+        .thenApplyAsync(initialCells -> new SudokuPuzzle(BLOCK_SIZE, initialCells), executor);
+
+    puzzleFuture.whenComplete((puzzle, error) ->
+    {
+      if (error != null)
+      {
+        cellsFuture.cancel(true); // cancelled or timed out
+      }
+    });
+
+    return puzzleFuture;
+  }
+
+  /**
+   * Retrieves the block size of the API puzzles.
+   *
+   * @return int : block size
+   */
+  @Override
+  public int getBlockSize()
+  {
+    return BLOCK_SIZE;
+  }
+
+  /**
+   * Opens the shared {@link ApiController} connection in the background.
+   */
+  @Override
+  public void warmUp()
+  {
+    ApiController.warmUp();
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #apiUrl}.
+   *
+   * @return String : API URL template
+   */
+  public String getApiUrl()
+  {
+    return this.apiUrl;
+  }
+
+  /**
+   * Retrieves {@link #timeout}.
+   *
+   * @return Duration : request timeout
+   */
+  public Duration getTimeout()
+  {
+    return this.timeout;
+  }
+}
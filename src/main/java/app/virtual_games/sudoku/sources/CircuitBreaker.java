@@ -0,0 +1,135 @@
+package app.virtual_games.sudoku.sources;
+
+import java.time.Duration;
+
+/**
+ * Circuit breaker that stops calling a failing endpoint. After {@link #failureThreshold} consecutive
+ * failures the circuit opens and every request is refused until {@link #openDuration} has passed.
+ * Then a single trial request is let through (half open): success closes the circuit, failure opens
+ * it again.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class CircuitBreaker
+{
+  private final int failureThreshold;
+  private final Duration openDuration;
+
+  private CircuitState state;
+  private int consecutiveFailures;
+  private long openedAt;
+  private boolean isTrialInFlight;
+
+  /**
+   * Initializes {@link #failureThreshold} and {@link #openDuration}.
+   *
+   * @throws IllegalArgumentException
+   * @param failureThreshold : consecutive failures that open the circuit
+   * @param openDuration     : time the circuit stays open before a trial request
+   */
+  public CircuitBreaker(int failureThreshold, Duration openDuration) throws IllegalArgumentException
+  {
+    if (failureThreshold < 1)
+    {
+      throw new IllegalArgumentException(String.format("Unsupported failure threshold %d", failureThreshold));
+    }
+
+    this.failureThreshold = failureThreshold;
+    this.openDuration = openDuration;
+    this.state = CircuitState.CLOSED;
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Determines whether a request may be sent now. Moves an open circuit to half open once
+   * {@link #openDuration} has passed, and allows only one trial request while half open.
+   *
+   * @return boolean : true —> send the request; false —> refuse it
+   */
+  public synchronized boolean allowRequest()
+  {
+    if (this.state == CircuitState.OPEN && System.nanoTime() - this.openedAt >= this.openDuration.toNanos())
+    {
+      this.state = CircuitState.HALF_OPEN;
+      this.isTrialInFlight = false;
+    }
+
+    switch (this.state)
+    {
+      case CLOSED:
+        return true;
+      case HALF_OPEN:
+        if (this.isTrialInFlight)
+        {
+          return false;
+        }
+
+        this.isTrialInFlight = true;
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * Records a successful request, closing the circuit.
+   */
+  public synchronized void recordSuccess()
+  {
+    this.state = CircuitState.CLOSED;
+    this.consecutiveFailures = 0;
+    this.isTrialInFlight = false;
+  }
+
+  /**
+   * Records a failed request, opening the circuit if the trial request failed or the threshold is
+   * reached.
+   */
+  public synchronized void recordFailure()
+  {
+    this.consecutiveFailures++;
+
+    if (this.state == CircuitState.HALF_OPEN || this.consecutiveFailures >= this.failureThreshold)
+    {
+      this.state = CircuitState.OPEN;
+      this.openedAt = System.nanoTime();
+      this.isTrialInFlight = false;
+    }
+  }
+
+  /**
+   * Releases the trial request while half open without recording an outcome (e.g. the request was
+   * interrupted), so the next request becomes the trial instead.
+   */
+  public synchronized void releaseTrial()
+  {
+    if (this.state == CircuitState.HALF_OPEN)
+    {
+      this.isTrialInFlight = false;
+    }
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #state}.
+   *
+   * @return CircuitState : current circuit state
+   */
+  public synchronized CircuitState getState()
+  {
+    return this.state;
+  }
+
+  /**
+   * Retrieves {@link #failureThreshold}.
+   *
+   * @return int : consecutive failures that open the circuit
+   */
+  public int getFailureThreshold()
+  {
+    return this.failureThreshold;
+  }
+}
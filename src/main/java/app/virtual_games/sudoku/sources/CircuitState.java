@@ -0,0 +1,36 @@
+package app.virtual_games.sudoku.sources;
+
+/**
+ * Enum for the states of a {@link CircuitBreaker}.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public enum CircuitState
+{
+  CLOSED("Closed"), OPEN("Open"), HALF_OPEN("Half Open");
+
+  private final String label;
+
+  /**
+   * Initializes {@link #label}
+   *
+   * @param label : label of circuit state
+   */
+  CircuitState(String label)
+  {
+    this.label = label;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #label} for enum instance.
+   *
+   * @return String : label of circuit state
+   */
+  public String getLabel()
+  {
+    return this.label;
+  }
+}
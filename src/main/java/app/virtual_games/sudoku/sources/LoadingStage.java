@@ -0,0 +1,36 @@
+package app.virtual_games.sudoku.sources;
+
+/**
+ * Enum for the stages of loading a new puzzle.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public enum LoadingStage
+{
+  FETCHING("Fetching puzzle..."), SOLVING("Solving puzzle..."), BUILDING("Building board...");
+
+  private final String label;
+
+  /**
+   * Initializes {@link #label}.
+   *
+   * @param label : label of the loading stage
+   */
+  LoadingStage(String label)
+  {
+    this.label = label;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #label} for enum instance.
+   *
+   * @return String : label of the loading stage
+   */
+  public String getLabel()
+  {
+    return this.label;
+  }
+}
@@ -0,0 +1,184 @@
+package app.virtual_games.sudoku.sources;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import app.virtual_games.sudoku.controllers.SolutionController;
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.models.PuzzleDifficulty;
+import app.virtual_games.sudoku.solvers.BitmaskSolver;
+import app.virtual_games.sudoku.solvers.CellSelection;
+import app.virtual_games.sudoku.solvers.SolutionCount;
+import app.virtual_games.sudoku.solvers.Solver;
+import app.virtual_games.sudoku.solvers.ValueOrdering;
+
+/**
+ * {@link PuzzleSource} that generates puzzles locally, without any network access. A random
+ * complete grid is built by solving an empty grid with {@link ValueOrdering#random}, then clues are
+ * removed in random order, and each removal is kept only if the puzzle still has a unique solution.
+ * Removal stops once the clue count for the {@link PuzzleDifficulty} is reached (or no more clues
+ * can be removed).
+ *
+ * Thread—safe: the only shared state is the {@link Random}, and the solvers are reentrant.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class LocalPuzzleGenerator implements PuzzleSource
+{
+  private static final int DEFAULT_BLOCK_SIZE = 3;
+
+  private final int blockSize;
+  private final int puzzleSize;
+  private final int totalCells;
+  private final Random random;
+  private final Solver gridSolver;
+  private final Solver validator;
+
+  /**
+   * Initializes a 9x9 puzzle generator.
+   */
+  public LocalPuzzleGenerator()
+  {
+    this(DEFAULT_BLOCK_SIZE, new Random());
+  }
+
+  /**
+   * Initializes the puzzle dimensions, the random grid solver, and the uniqueness validator.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block (e.g. 3 —> 9x9 puzzle)
+   * @param random    : source of randomness (e.g. seeded for reproducible puzzles)
+   */
+  public LocalPuzzleGenerator(int blockSize, Random random)
+  {
+    this.blockSize = blockSize;
+    this.puzzleSize = blockSize * blockSize;
+    this.totalCells = this.puzzleSize * this.puzzleSize;
+    this.random = random;
+    this.gridSolver = new BitmaskSolver(blockSize, CellSelection.MINIMUM_REMAINING_VALUES,
+        ValueOrdering.random(random));
+    this.validator = SolutionController.getSolver(blockSize);
+  }
+
+  /**
+   * Generates a sudoku puzzle with the corresponding difficulty.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return List<Square> : list of initial sudoku cells
+   */
+  @Override
+  public List<Square> getSudokuPuzzle(int difficultyId)
+  {
+    PuzzleDifficulty difficulty = PuzzleDifficulty.getEnumInstance(difficultyId);
+    int[] puzzle = this.gridSolver.solve(new int[this.totalCells]);
+
+    this.removeClues(puzzle, this.getTargetClueCount(difficulty));
+
+    return this.toSquares(puzzle);
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Removes clues in random order while the puzzle keeps a unique solution.
+   *
+   * @param puzzle          : flat array of sudoku values (updated in place)
+   * @param targetClueCount : number of clues at which removal stops
+   */
+  private void removeClues(int[] puzzle, int targetClueCount)
+  {
+    int[] cellOrder = this.shuffleCells();
+    int clueCount = this.totalCells;
+
+    for (var orderIndex = 0; orderIndex < this.totalCells && clueCount > targetClueCount; orderIndex++)
+    {
+      int cellIndex = cellOrder[orderIndex];
+      int clue = puzzle[cellIndex];
+
+      puzzle[cellIndex] = 0;
+
+      if (this.validator.verifyUniqueness(puzzle) == SolutionCount.UNIQUE)
+      {
+        clueCount--;
+      } else
+      {
+        puzzle[cellIndex] = clue; // removal made the solution ambiguous
+      }
+    }
+  }
+
+  /**
+   * Retrieves the cell indices in random order (Fisher—Yates shuffle).
+   *
+   * @return int[] : shuffled cell indices
+   */
+  private int[] shuffleCells()
+  {
+    var cellOrder = new int[this.totalCells];
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      int swapIndex = this.random.nextInt(cellIndex + 1);
+
+      cellOrder[cellIndex] = cellOrder[swapIndex];
+      cellOrder[swapIndex] = cellIndex;
+    }
+
+    return cellOrder;
+  }
+
+  /**
+   * Retrieves the number of clues to keep for the difficulty (e.g. 36, 30, and 25 for a 9x9
+   * puzzle).
+   *
+   * @param difficulty : puzzle difficulty
+   * @return int : target clue count
+   */
+  private int getTargetClueCount(PuzzleDifficulty difficulty)
+  {
+    switch (difficulty)
+    {
+      case EASY:
+        return (this.totalCells * 45) / 100;
+      case MEDIUM:
+        return (this.totalCells * 38) / 100;
+      default:
+        return (this.totalCells * 32) / 100;
+    }
+  }
+
+  /**
+   * Converts the puzzle into row—ordered initial sudoku cells.
+   *
+   * @param puzzle : flat array of sudoku values (0 —> empty cell)
+   * @return List<Square> : list of initial sudoku cells
+   */
+  private List<Square> toSquares(int[] puzzle)
+  {
+    var squares = new ArrayList<Square>();
+
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex++)
+    {
+      if (puzzle[cellIndex] != 0)
+      {
+        squares.add(new Square(cellIndex % this.puzzleSize, cellIndex / this.puzzleSize, puzzle[cellIndex]));
+      }
+    }
+
+    return squares;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #blockSize}.
+   *
+   * @return int : block size
+   */
+  @Override
+  public int getBlockSize()
+  {
+    return this.blockSize;
+  }
+}
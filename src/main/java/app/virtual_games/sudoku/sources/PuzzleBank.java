@@ -0,0 +1,336 @@
+package app.virtual_games.sudoku.sources;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+import app.virtual_games.sudoku.models.PuzzleDifficulty;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+
+/**
+ * Read—only bank of pre—generated, checked, and solved puzzles, memory—mapped with
+ * {@link FileChannel#map} so the puzzles never live on the heap. The file is written by
+ * {@link PuzzleBankWriter} and has the following (big—endian) layout:
+ *
+ * Header —> magic "SDKB" (4 bytes), version (1 byte), block size (1 byte), reserved (2 bytes),
+ * record count (4 bytes), then the first record index and record count of each
+ * {@link PuzzleDifficulty} (4 + 4 bytes each, in enum order).
+ *
+ * Records —> fixed—width and grouped by difficulty, so any record is found with one multiplication:
+ * difficulty id (1 byte), initial values (4 bits per cell, 0 —> empty cell; 41 bytes for a 9x9
+ * puzzle), then the solution (4 bits per cell) at {@link #getSolutionOffset}. A 9x9 record is 83
+ * bytes.
+ *
+ * Values are packed two per byte (low nibble first), so only puzzles with at most 15 values (i.e.
+ * block sizes 2 and 3) can be banked. Thread—safe: records are read with absolute gets only.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class PuzzleBank
+{
+  static final int MAGIC = 0x53444B42; // "SDKB"
+  static final byte VERSION = 1;
+  static final int MAX_BLOCK_SIZE = 3;
+  static final int SECTION_SIZE = Integer.BYTES * 2;
+  static final int HEADER_SIZE = 12 + (PuzzleDifficulty.values().length * SECTION_SIZE);
+
+  private final Path bankPath;
+  private final ByteBuffer records;
+  private final int blockSize;
+  private final int totalCells;
+  private final int recordSize;
+  private final int puzzleCount;
+  private final int[] sectionStarts;
+  private final int[] sectionCounts;
+
+  /**
+   * Maps the bank file into memory and validates its header.
+   *
+   * @throws IOException
+   * @param bankPath : path of the puzzle bank file
+   */
+  public PuzzleBank(Path bankPath) throws IOException
+  {
+    this.bankPath = bankPath;
+
+    try (FileChannel channel = FileChannel.open(bankPath, StandardOpenOption.READ))
+    {
+      long fileSize = channel.size();
+
+      if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE)
+      {
+        throw this.toFormatException(String.format("unsupported file size %d", fileSize));
+      }
+
+      this.records = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize).order(ByteOrder.BIG_ENDIAN);
+    } // the mapping stays valid after the channel is closed
+
+    if (this.records.getInt(0) != MAGIC || this.records.get(4) != VERSION)
+    {
+      throw this.toFormatException("not a version 1 puzzle bank");
+    }
+
+    this.blockSize = this.records.get(5);
+
+    if (this.blockSize < 2 || this.blockSize > MAX_BLOCK_SIZE)
+    {
+      throw this.toFormatException(String.format("unsupported block size %d", this.blockSize));
+    }
+
+    this.totalCells = this.blockSize * this.blockSize * this.blockSize * this.blockSize;
+    this.recordSize = PuzzleBank.getRecordSize(this.blockSize);
+    this.puzzleCount = this.records.getInt(8);
+
+    if ((long) HEADER_SIZE + ((long) this.puzzleCount * this.recordSize) != this.records.capacity())
+    {
+      throw this.toFormatException(String.format("file size does not match %d records", this.puzzleCount));
+    }
+
+    this.sectionStarts = new int[PuzzleDifficulty.values().length];
+    this.sectionCounts = new int[PuzzleDifficulty.values().length];
+    this.loadSections();
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Calculates the size of one record for the block size.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @return int : record size in bytes
+   */
+  public static int getRecordSize(int blockSize)
+  {
+    return 1 + (2 * PuzzleBank.getPackedSize(blockSize));
+  }
+
+  /**
+   * Retrieves the number of records with the corresponding difficulty.
+   *
+   * @param difficulty : puzzle difficulty
+   * @return int : record count
+   */
+  public int getPuzzleCount(PuzzleDifficulty difficulty)
+  {
+    return this.sectionCounts[difficulty.ordinal()];
+  }
+
+  /**
+   * Retrieves the record index of the n—th puzzle with the corresponding difficulty.
+   *
+   * @param difficulty : puzzle difficulty
+   * @param rank       : position of the puzzle within its difficulty (0 —> first)
+   * @return int : index of the record in the bank
+   */
+  public int getPuzzleIndex(PuzzleDifficulty difficulty, int rank)
+  {
+    Objects.checkIndex(rank, this.sectionCounts[difficulty.ordinal()]);
+
+    return this.sectionStarts[difficulty.ordinal()] + rank;
+  }
+
+  /**
+   * Retrieves the difficulty of a record.
+   *
+   * @param puzzleIndex : index of the record in the bank
+   * @return PuzzleDifficulty : puzzle difficulty
+   */
+  public PuzzleDifficulty getDifficulty(int puzzleIndex)
+  {
+    return PuzzleDifficulty.getEnumInstance(this.records.get(this.getRecordOffset(puzzleIndex)));
+  }
+
+  /**
+   * Unpacks the initial values of a record into the target array.
+   *
+   * @param puzzleIndex : index of the record in the bank
+   * @param target      : flat array of initial sudoku values (0 —> empty cell; updated in place)
+   */
+  public void readInitialPuzzle(int puzzleIndex, int[] target)
+  {
+    this.unpack(this.getRecordOffset(puzzleIndex) + 1, target);
+  }
+
+  /**
+   * Unpacks the solution of a record into the target array.
+   *
+   * @param puzzleIndex : index of the record in the bank
+   * @param target      : flat array of correct sudoku values (updated in place)
+   */
+  public void readSolvedPuzzle(int puzzleIndex, int[] target)
+  {
+    this.unpack(this.getRecordOffset(puzzleIndex) + this.getSolutionOffset(), target);
+  }
+
+  /**
+   * Retrieves a record as a checked and solved puzzle, in O(cells) and without running a solver.
+   *
+   * @throws IllegalArgumentException
+   * @param puzzleIndex : index of the record in the bank
+   * @return SudokuPuzzle : checked and solved sudoku puzzle
+   */
+  public SudokuPuzzle getPuzzle(int puzzleIndex) throws IllegalArgumentException
+  {
+    var initialPuzzle = new int[this.totalCells];
+    var solvedPuzzle = new int[this.totalCells];
+
+    this.readInitialPuzzle(puzzleIndex, initialPuzzle);
+    this.readSolvedPuzzle(puzzleIndex, solvedPuzzle);
+
+    return new SudokuPuzzle(this.blockSize, initialPuzzle, solvedPuzzle);
+  }
+
+  /**
+   * Retrieves the n—th puzzle with the corresponding difficulty.
+   *
+   * @throws IllegalArgumentException
+   * @param difficulty : puzzle difficulty
+   * @param rank       : position of the puzzle within its difficulty (0 —> first)
+   * @return SudokuPuzzle : checked and solved sudoku puzzle
+   */
+  public SudokuPuzzle getPuzzle(PuzzleDifficulty difficulty, int rank) throws IllegalArgumentException
+  {
+    return this.getPuzzle(this.getPuzzleIndex(difficulty, rank));
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Calculates the number of bytes needed for one packed puzzle.
+   *
+   * @param blockSize : number of rows (or columns) in a sudoku block
+   * @return int : packed size in bytes
+   */
+  static int getPackedSize(int blockSize)
+  {
+    int puzzleSize = blockSize * blockSize;
+
+    return ((puzzleSize * puzzleSize) + 1) / 2;
+  }
+
+  /**
+   * Loads and validates the first record index and record count of each difficulty.
+   *
+   * @throws IOException
+   */
+  private void loadSections() throws IOException
+  {
+    var expectedStart = 0;
+
+    for (PuzzleDifficulty difficulty : PuzzleDifficulty.values())
+    {
+      int sectionOffset = 12 + (difficulty.ordinal() * SECTION_SIZE);
+      int sectionStart = this.records.getInt(sectionOffset);
+      int sectionCount = this.records.getInt(sectionOffset + Integer.BYTES);
+
+      if (sectionStart != expectedStart || sectionCount < 0)
+      {
+        throw this.toFormatException(String.format("invalid %s section", difficulty.getLabel()));
+      }
+
+      this.sectionStarts[difficulty.ordinal()] = sectionStart;
+      this.sectionCounts[difficulty.ordinal()] = sectionCount;
+      expectedStart += sectionCount;
+    }
+
+    if (expectedStart != this.puzzleCount)
+    {
+      throw this.toFormatException("sections do not cover every record");
+    }
+  }
+
+  /**
+   * Calculates the byte offset of a record.
+   *
+   * @param puzzleIndex : index of the record in the bank
+   * @return int : record offset
+   */
+  private int getRecordOffset(int puzzleIndex)
+  {
+    Objects.checkIndex(puzzleIndex, this.puzzleCount);
+
+    return HEADER_SIZE + (puzzleIndex * this.recordSize);
+  }
+
+  /**
+   * Unpacks two values per byte (low nibble first) into the target array.
+   *
+   * @param offset : byte offset of the packed values
+   * @param target : flat array of sudoku values (updated in place)
+   */
+  private void unpack(int offset, int[] target)
+  {
+    int lastPair = this.totalCells & ~1;
+
+    for (var cellIndex = 0; cellIndex < lastPair; cellIndex += 2)
+    {
+      int packed = this.records.get(offset + (cellIndex >> 1));
+
+      target[cellIndex] = packed & 0x0F;
+      target[cellIndex + 1] = (packed >>> 4) & 0x0F;
+    }
+
+    if (lastPair != this.totalCells)
+    {
+      target[lastPair] = this.records.get(offset + (lastPair >> 1)) & 0x0F; // odd cell count
+    }
+  }
+
+  /**
+   * Creates the exception for a malformed bank file.
+   *
+   * @param reason : what is wrong with the file
+   * @return IOException : malformed bank exception
+   */
+  private IOException toFormatException(String reason)
+  {
+    return new IOException(String.format("Malformed puzzle bank %s: %s", this.bankPath, reason));
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #bankPath}.
+   *
+   * @return Path : path of the puzzle bank file
+   */
+  public Path getBankPath()
+  {
+    return this.bankPath;
+  }
+
+  /**
+   * Retrieves {@link #blockSize}.
+   *
+   * @return int : block size
+   */
+  public int getBlockSize()
+  {
+    return this.blockSize;
+  }
+
+  /**
+   * Retrieves {@link #puzzleCount}.
+   *
+   * @return int : total record count
+   */
+  public int getPuzzleCount()
+  {
+    return this.puzzleCount;
+  }
+
+  /**
+   * Retrieves the offset of the solution within a record.
+   *
+   * @return int : solution offset in bytes
+   */
+  public int getSolutionOffset()
+  {
+    return 1 + PuzzleBank.getPackedSize(this.blockSize);
+  }
+}
@@ -0,0 +1,109 @@
+package app.virtual_games.sudoku.sources;
+
+import java.util.List;
+import java.util.Random;
+
+import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.models.PuzzleDifficulty;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+
+/**
+ * {@link PuzzleSource} that deals random puzzles from a {@link PuzzleBank}. Bank records already
+ * hold their solutions, so {@link #getPuzzle} skips the solver entirely.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class PuzzleBankSource implements PuzzleSource
+{
+  private final PuzzleBank puzzleBank;
+  private final Random random;
+
+  /**
+   * Initializes a source that picks puzzles at random.
+   *
+   * @param puzzleBank : memory—mapped bank of checked and solved puzzles
+   */
+  public PuzzleBankSource(PuzzleBank puzzleBank)
+  {
+    this(puzzleBank, new Random());
+  }
+
+  /**
+   * Initializes {@link #puzzleBank} and {@link #random}.
+   *
+   * @param puzzleBank : memory—mapped bank of checked and solved puzzles
+   * @param random     : source of randomness (e.g. seeded for reproducible puzzles)
+   */
+  public PuzzleBankSource(PuzzleBank puzzleBank, Random random)
+  {
+    this.puzzleBank = puzzleBank;
+    this.random = random;
+  }
+
+  /**
+   * Retrieves a random banked puzzle with the corresponding difficulty.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return List<Square> : list of initial sudoku cells
+   * @throws SudokuPuzzleException
+   */
+  @Override
+  public List<Square> getSudokuPuzzle(int difficultyId) throws SudokuPuzzleException
+  {
+    return this.getPuzzle(difficultyId).getInitialCells();
+  }
+
+  /**
+   * Retrieves a random banked puzzle with the corresponding difficulty, already checked and solved.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return SudokuPuzzle : checked and solved sudoku puzzle
+   * @throws SudokuPuzzleException
+   */
+  @Override
+  public SudokuPuzzle getPuzzle(int difficultyId) throws SudokuPuzzleException
+  {
+    PuzzleDifficulty difficulty = PuzzleDifficulty.getEnumInstance(difficultyId);
+    int puzzleCount = this.puzzleBank.getPuzzleCount(difficulty);
+
+    if (puzzleCount == 0)
+    {
+      throw new SudokuPuzzleException(String.format("No %s puzzles in %s", difficulty.getLabel(),
+          this.puzzleBank.getBankPath()));
+    }
+
+    try
+    {
+      return this.puzzleBank.getPuzzle(difficulty, this.random.nextInt(puzzleCount));
+    } catch (IllegalArgumentException e)
+    {
+      throw new SudokuPuzzleException(String.format("Corrupt puzzle record in %s: %s",
+          this.puzzleBank.getBankPath(), e.getMessage()));
+    }
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves the block size of the banked puzzles.
+   *
+   * @return int : block size
+   */
+  @Override
+  public int getBlockSize()
+  {
+    return this.puzzleBank.getBlockSize();
+  }
+
+  /**
+   * Retrieves {@link #puzzleBank}.
+   *
+   * @return PuzzleBank : memory—mapped bank of checked and solved puzzles
+   */
+  public PuzzleBank getPuzzleBank()
+  {
+    return this.puzzleBank;
+  }
+}
@@ -0,0 +1,211 @@
+package app.virtual_games.sudoku.sources;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.EnumMap;
+import java.util.Map;
+
+import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
+import app.virtual_games.sudoku.models.PuzzleDifficulty;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+
+/**
+ * Builds {@link PuzzleBank} files. Records are packed as they are added and grouped by
+ * {@link PuzzleDifficulty} when the bank is written, so a bank of a few million 9x9 puzzles needs a
+ * few hundred megabytes while it is being built (the game itself only maps the finished file).
+ *
+ * Run as a program to generate a bank with the {@link LocalPuzzleGenerator}:
+ * {@code PuzzleBankWriter <bank file> <puzzles per difficulty>}.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class PuzzleBankWriter
+{
+  private final int blockSize;
+  private final int totalCells;
+  private final byte[] record;
+  private final Map<PuzzleDifficulty, ByteArrayOutputStream> sections;
+  private final Map<PuzzleDifficulty, Integer> sectionCounts;
+
+  /**
+   * Initializes an empty bank for puzzles of the block size.
+   *
+   * @throws IllegalArgumentException
+   * @param blockSize : number of rows (or columns) in a sudoku block (2 or 3)
+   */
+  public PuzzleBankWriter(int blockSize) throws IllegalArgumentException
+  {
+    if (blockSize < 2 || blockSize > PuzzleBank.MAX_BLOCK_SIZE)
+    {
+      throw new IllegalArgumentException(String.format("Unsupported block size %d", blockSize));
+    }
+
+    this.blockSize = blockSize;
+    this.totalCells = blockSize * blockSize * blockSize * blockSize;
+    this.record = new byte[PuzzleBank.getRecordSize(blockSize)];
+    this.sections = new EnumMap<>(PuzzleDifficulty.class);
+    this.sectionCounts = new EnumMap<>(PuzzleDifficulty.class);
+
+    for (PuzzleDifficulty difficulty : PuzzleDifficulty.values())
+    {
+      this.sections.put(difficulty, new ByteArrayOutputStream());
+      this.sectionCounts.put(difficulty, 0);
+    }
+  }
+
+  /**
+   * Generates a 9x9 bank with the {@link LocalPuzzleGenerator}.
+   *
+   * @param args : bank file, puzzles per difficulty
+   * @throws IOException
+   * @throws SudokuPuzzleException
+   */
+  public static void main(String[] args) throws IOException, SudokuPuzzleException
+  {
+    var generator = new LocalPuzzleGenerator();
+    var writer = new PuzzleBankWriter(generator.getBlockSize());
+    int puzzlesPerDifficulty = Integer.parseInt(args[1]);
+
+    for (PuzzleDifficulty difficulty : PuzzleDifficulty.values())
+    {
+      for (var puzzleCount = 0; puzzleCount < puzzlesPerDifficulty; puzzleCount++)
+      {
+        writer.addPuzzle(difficulty, generator.getPuzzle(difficulty.getId()));
+      }
+    }
+
+    writer.write(Paths.get(args[0]));
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Adds a checked and solved puzzle to the bank.
+   *
+   * @throws IllegalArgumentException
+   * @param difficulty : puzzle difficulty
+   * @param puzzle     : puzzle with a unique solution
+   */
+  public void addPuzzle(PuzzleDifficulty difficulty, SudokuPuzzle puzzle) throws IllegalArgumentException
+  {
+    if (puzzle.getBlockSize() != this.blockSize || !puzzle.getIsSolved())
+    {
+      throw new IllegalArgumentException("Only solved puzzles of the bank's block size can be banked");
+    }
+
+    this.addPuzzle(difficulty, puzzle.getInitialPuzzle(), puzzle.getSolvedPuzzle());
+  }
+
+  /**
+   * Adds a puzzle and its solution to the bank.
+   *
+   * @param difficulty    : puzzle difficulty
+   * @param initialPuzzle : flat array of initial sudoku values (0 —> empty cell)
+   * @param solvedPuzzle  : flat array of correct sudoku values
+   */
+  public void addPuzzle(PuzzleDifficulty difficulty, int[] initialPuzzle, int[] solvedPuzzle)
+  {
+    int packedSize = PuzzleBank.getPackedSize(this.blockSize);
+
+    this.record[0] = (byte) difficulty.getId();
+    this.pack(initialPuzzle, 1);
+    this.pack(solvedPuzzle, 1 + packedSize);
+
+    this.sections.get(difficulty).write(this.record, 0, this.record.length);
+    this.sectionCounts.merge(difficulty, 1, Integer::sum);
+  }
+
+  /**
+   * Writes the bank to a temporary file next to the target, then moves it into place, so readers
+   * never map a half—written bank.
+   *
+   * @param bankPath : path of the puzzle bank file
+   * @throws IOException
+   */
+  public void write(Path bankPath) throws IOException
+  {
+    Path absolutePath = bankPath.toAbsolutePath();
+    Path tempPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+
+    try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE,
+        StandardOpenOption.TRUNCATE_EXISTING))
+    {
+      channel.write(this.buildHeader());
+
+      for (PuzzleDifficulty difficulty : PuzzleDifficulty.values())
+      {
+        channel.write(ByteBuffer.wrap(this.sections.get(difficulty).toByteArray()));
+      }
+
+      channel.force(true);
+    } catch (IOException e)
+    {
+      Files.deleteIfExists(tempPath);
+      throw e;
+    }
+
+    Files.move(tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Packs two values per byte (low nibble first) into {@link #record}.
+   *
+   * @param puzzle : flat array of sudoku values
+   * @param offset : byte offset in the record
+   */
+  private void pack(int[] puzzle, int offset)
+  {
+    for (var cellIndex = 0; cellIndex < this.totalCells; cellIndex += 2)
+    {
+      int high = cellIndex + 1 < this.totalCells ? puzzle[cellIndex + 1] : 0;
+
+      this.record[offset + (cellIndex >> 1)] = (byte) (puzzle[cellIndex] | (high << 4));
+    }
+  }
+
+  /**
+   * Builds the bank header (see {@link PuzzleBank}).
+   *
+   * @return ByteBuffer : header ready to be written
+   */
+  private ByteBuffer buildHeader()
+  {
+    ByteBuffer header = ByteBuffer.allocate(PuzzleBank.HEADER_SIZE);
+    var sectionStart = 0;
+
+    header.putInt(PuzzleBank.MAGIC).put(PuzzleBank.VERSION).put((byte) this.blockSize).putShort((short) 0);
+    header.putInt(this.getPuzzleCount());
+
+    for (PuzzleDifficulty difficulty : PuzzleDifficulty.values())
+    {
+      int sectionCount = this.sectionCounts.get(difficulty);
+
+      header.putInt(sectionStart).putInt(sectionCount);
+      sectionStart += sectionCount;
+    }
+
+    return header.flip();
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves the number of puzzles added so far.
+   *
+   * @return int : puzzle count
+   */
+  public int getPuzzleCount()
+  {
+    return this.sectionCounts.values().stream().mapToInt(Integer::intValue).sum();
+  }
+}
@@ -0,0 +1,289 @@
+package app.virtual_games.sudoku.sources;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
+import app.virtual_games.sudoku.listeners.LoadingStageListener;
+import app.virtual_games.sudoku.models.PuzzleDifficulty;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+
+/**
+ * Bounded buffer of ready—to—play puzzles per {@link PuzzleDifficulty}. Background threads fetch
+ * puzzles from a {@link PuzzleSource} and check and solve them (i.e. build a {@link SudokuPuzzle}),
+ * so {@link #take} is usually just a queue poll. Every take refills its queue back up to
+ * {@link #depth}; an empty queue falls back to fetching on the calling thread (or, with
+ * {@link #takeAsync}, to fetching in the background and solving on a dedicated loader thread, so a
+ * player waiting for a puzzle never queues behind background prefetches).
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class PuzzlePrefetcher
+{
+  private static final Logger LOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+  private static final String DEPTH_PROPERTY = "sudoku.prefetch.depth";
+  private static final int DEFAULT_DEPTH = 2;
+  private static final int THREAD_COUNT = 2;
+  private static final LoadingStageListener IGNORED_STAGES = loadingStage ->
+  {
+    // progress isn't reported
+  };
+
+  private final PuzzleSource puzzleSource;
+  private final int depth;
+  private final ExecutorService executor;
+  private final ExecutorService loader;
+  private final Map<PuzzleDifficulty, BlockingQueue<SudokuPuzzle>> readyPuzzles;
+  private final Map<PuzzleDifficulty, AtomicInteger> pendingFetches;
+
+  /**
+   * Initializes a prefetcher that keeps two puzzles ready per difficulty, unless the
+   * {@code sudoku.prefetch.depth} system property says otherwise.
+   *
+   * @param puzzleSource : provider of new sudoku puzzles
+   */
+  public PuzzlePrefetcher(PuzzleSource puzzleSource)
+  {
+    this(puzzleSource, Integer.getInteger(DEPTH_PROPERTY, DEFAULT_DEPTH));
+  }
+
+  /**
+   * Initializes {@link #puzzleSource}, {@link #depth}, the background and loader threads, and one
+   * queue per difficulty.
+   *
+   * @throws IllegalArgumentException
+   * @param puzzleSource : provider of new sudoku puzzles
+   * @param depth        : number of puzzles kept ready per difficulty
+   */
+  public PuzzlePrefetcher(PuzzleSource puzzleSource, int depth) throws IllegalArgumentException
+  {
+    if (depth < 1)
+    {
+      throw new IllegalArgumentException(String.format("Unsupported prefetch depth %d", depth));
+    }
+
+    this.puzzleSource = puzzleSource;
+    this.depth = depth;
+    this.executor = Executors.newFixedThreadPool(THREAD_COUNT, task -> this.createThread(task, "puzzle-prefetcher"));
+    this.loader = Executors.newSingleThreadExecutor(task -> this.createThread(task, "puzzle-loader"));
+    this.readyPuzzles = new EnumMap<>(PuzzleDifficulty.class);
+    this.pendingFetches = new EnumMap<>(PuzzleDifficulty.class);
+
+    for (PuzzleDifficulty difficulty : PuzzleDifficulty.values())
+    {
+      this.readyPuzzles.put(difficulty, new ArrayBlockingQueue<>(depth));
+      this.pendingFetches.put(difficulty, new AtomicInteger());
+    }
+  }
+
+  /** Public Helper Methods **/
+
+  /**
+   * Starts filling every queue in the background.
+   */
+  public void start()
+  {
+    for (PuzzleDifficulty difficulty : PuzzleDifficulty.values())
+    {
+      this.refill(difficulty);
+    }
+  }
+
+  /**
+   * Retrieves a ready puzzle with the corresponding difficulty and refills its queue. Fetches the
+   * puzzle on the calling thread if none is ready.
+   *
+   * @param difficulty : puzzle difficulty
+   * @return SudokuPuzzle : checked and solved sudoku puzzle
+   * @throws SudokuPuzzleException
+   */
+  public SudokuPuzzle take(PuzzleDifficulty difficulty) throws SudokuPuzzleException
+  {
+    SudokuPuzzle puzzle = this.readyPuzzles.get(difficulty).poll();
+
+    this.refill(difficulty);
+
+    return puzzle != null ? puzzle : this.fetchPuzzle(difficulty);
+  }
+
+  /**
+   * Retrieves a ready puzzle with the corresponding difficulty and refills its queue, without ever
+   * blocking the caller. If none is ready, the puzzle is requested with
+   * {@link PuzzleSource#getPuzzleAsync}, so it's checked and solved on the loader thread (unless the
+   * source already stores its solution). Cancelling the returned future also cancels the fetch.
+   *
+   * @param difficulty : puzzle difficulty
+   * @return CompletableFuture<SudokuPuzzle> : checked and solved sudoku puzzle (completes
+   *         exceptionally with a {@link SudokuPuzzleException})
+   */
+  public CompletableFuture<SudokuPuzzle> takeAsync(PuzzleDifficulty difficulty)
+  {
+    return this.takeAsync(difficulty, IGNORED_STAGES);
+  }
+
+  /**
+   * Retrieves a ready puzzle like {@link #takeAsync(PuzzleDifficulty)}, reporting each stage of the
+   * request (i.e. fetching, then solving) to the listener. Ready puzzles complete without any stage.
+   * Cancelling the returned future also cancels the fetch, and skips solving if it hasn't started.
+   *
+   * @param difficulty    : puzzle difficulty
+   * @param stageListener : listener for the progress of the request
+   * @return CompletableFuture<SudokuPuzzle> : checked and solved sudoku puzzle (completes
+   *         exceptionally with a {@link SudokuPuzzleException})
+   */
+  public CompletableFuture<SudokuPuzzle> takeAsync(PuzzleDifficulty difficulty, LoadingStageListener stageListener)
+  {
+    SudokuPuzzle puzzle = this.readyPuzzles.get(difficulty).poll();
+
+    this.refill(difficulty);
+
+    if (puzzle != null)
+    {
+      return CompletableFuture.completedFuture(puzzle);
+    }
+
+    stageListener.stageChanged(LoadingStage.FETCHING);
+
+    return this.puzzleSource.getPuzzleAsync(difficulty.getId(), this.getSolvingExecutor(stageListener));
+  }
+
+  /**
+   * Stops the background and loader threads. Ready puzzles are discarded.
+   */
+  public void shutdown()
+  {
+    this.executor.shutdownNow();
+    this.loader.shutdownNow();
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Submits background fetches until the ready and in—flight puzzles of the difficulty reach
+   * {@link #depth}.
+   *
+   * @param difficulty : puzzle difficulty
+   */
+  private void refill(PuzzleDifficulty difficulty)
+  {
+    AtomicInteger pending = this.pendingFetches.get(difficulty);
+    int inFlight;
+
+    while ((inFlight = pending.get()) + this.readyPuzzles.get(difficulty).size() < this.depth)
+    {
+      if (pending.compareAndSet(inFlight, inFlight + 1))
+      {
+        try
+        {
+          this.executor.execute(() -> this.prefetch(difficulty));
+        } catch (RejectedExecutionException e)
+        {
+          pending.decrementAndGet();
+          return; // already shut down
+        }
+      }
+    }
+  }
+
+  /**
+   * Fetches a puzzle in the background and queues it if it has a unique solution.
+   *
+   * @param difficulty : puzzle difficulty
+   */
+  private void prefetch(PuzzleDifficulty difficulty)
+  {
+    try
+    {
+      SudokuPuzzle puzzle = this.fetchPuzzle(difficulty);
+
+      if (puzzle.getIsSolved())
+      {
+        this.readyPuzzles.get(difficulty).offer(puzzle);
+      }
+    } catch (SudokuPuzzleException | RuntimeException e)
+    {
+      LOGGER.log(Level.WARNING, "Failed to prefetch a {0} puzzle: {1}",
+          new Object[] { difficulty.getLabel(), e.getMessage() });
+    } finally
+    {
+      this.pendingFetches.get(difficulty).decrementAndGet();
+    }
+  }
+
+  /**
+   * Fetches, checks, and solves a puzzle with the corresponding difficulty.
+   *
+   * @param difficulty : puzzle difficulty
+   * @return SudokuPuzzle : checked and solved sudoku puzzle
+   * @throws SudokuPuzzleException
+   */
+  private SudokuPuzzle fetchPuzzle(PuzzleDifficulty difficulty) throws SudokuPuzzleException
+  {
+    return this.puzzleSource.getPuzzle(difficulty.getId());
+  }
+
+  /**
+   * Retrieves an executor that runs each task on the loader thread, reporting the solving stage as the
+   * task starts.
+   *
+   * @param stageListener : listener for the progress of the request
+   * @return Executor : solving executor
+   */
+  private Executor getSolvingExecutor(LoadingStageListener stageListener)
+  {
+    return task -> this.loader.execute(() ->
+    {
+      stageListener.stageChanged(LoadingStage.SOLVING);
+      task.run();
+    });
+  }
+
+  /**
+   * Creates a daemon thread, so prefetching and loading never keep the application alive.
+   *
+   * @param task       : thread task
+   * @param threadName : thread name
+   * @return Thread : daemon thread
+   */
+  private Thread createThread(Runnable task, String threadName)
+  {
+    var thread = new Thread(task, threadName);
+
+    thread.setDaemon(true);
+
+    return thread;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves {@link #puzzleSource}.
+   *
+   * @return PuzzleSource : provider of new sudoku puzzles
+   */
+  public PuzzleSource getPuzzleSource()
+  {
+    return this.puzzleSource;
+  }
+
+  /**
+   * Retrieves {@link #depth}.
+   *
+   * @return int : number of puzzles kept ready per difficulty
+   */
+  public int getDepth()
+  {
+    return this.depth;
+  }
+}
@@ -0,0 +1,103 @@
+package app.virtual_games.sudoku.sources;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+
+/**
+ * Provider of new sudoku puzzles (e.g. the sudoku API or a local generator).
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public interface PuzzleSource
+{
+  /**
+   * Retrieves a sudoku puzzle with the corresponding difficulty.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return List<Square> : list of initial sudoku cells
+   * @throws SudokuPuzzleException
+   */
+  List<Square> getSudokuPuzzle(int difficultyId) throws SudokuPuzzleException;
+
+  /**
+   * Retrieves a checked and solved sudoku puzzle with the corresponding difficulty. Checks and solves
+   * the puzzle from {@link #getSudokuPuzzle} by default; sources that store solutions override this.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return SudokuPuzzle : checked and solved sudoku puzzle
+   * @throws SudokuPuzzleException
+   */
+  default SudokuPuzzle getPuzzle(int difficultyId) throws SudokuPuzzleException
+  {
+    return new SudokuPuzzle(this.getBlockSize(), this.getSudokuPuzzle(difficultyId));
+  }
+
+  /**
+   * Retrieves a sudoku puzzle with the corresponding difficulty without blocking the caller. Runs
+   * {@link #getSudokuPuzzle} on the common pool by default.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return CompletableFuture<List<Square>> : list of initial sudoku cells (completes exceptionally
+   *         with a {@link SudokuPuzzleException})
+   */
+  default CompletableFuture<List<Square>> getSudokuPuzzleAsync(int difficultyId)
+  {
+    return CompletableFuture.supplyAsync(() ->
+    {
+      try
+      {
+        return this.getSudokuPuzzle(difficultyId);
+      } catch (SudokuPuzzleException e)
+      {
+        throw new CompletionException(e);
+      }
+    });
+  }
+
+  /**
+   * Retrieves a checked and solved sudoku puzzle with the corresponding difficulty without blocking
+   * the caller. Runs {@link #getPuzzle} on the executor by default, so sources that store solutions
+   * keep them; sources with a non—blocking fetch override this and only check and solve on the
+   * executor.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @param executor     : executor that checks and solves the puzzle
+   * @return CompletableFuture<SudokuPuzzle> : checked and solved sudoku puzzle (completes exceptionally
+   *         with a {@link SudokuPuzzleException})
+   */
+  default CompletableFuture<SudokuPuzzle> getPuzzleAsync(int difficultyId, Executor executor)
+  {
+    return CompletableFuture.supplyAsync(() ->
+    {
+      try
+      {
+        return this.getPuzzle(difficultyId);
+      } catch (SudokuPuzzleException e)
+      {
+        throw new CompletionException(e);
+      }
+    }, executor);
+  }
+
+  /**
+   * Retrieves the number of rows (or columns) in a sudoku block of the provided puzzles.
+   *
+   * @return int : block size
+   */
+  int getBlockSize();
+
+  /**
+   * Prepares the source ahead of the first request (e.g. opens network connections). Does nothing by
+   * default.
+   */
+  default void warmUp()
+  {
+  }
+}
@@ -0,0 +1,511 @@
+package app.virtual_games.sudoku.sources;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import app.virtual_games.sudoku.exceptions.SudokuPuzzleException;
+import app.virtual_games.sudoku.models.ApiResponse.Square;
+import app.virtual_games.sudoku.models.SudokuPuzzle;
+
+/**
+ * {@link PuzzleSource} that makes a primary source (e.g. the sudoku API) fault tolerant. Failed
+ * requests are retried up to {@link #maxAttempts} times with jittered exponential backoff (i.e. a
+ * random delay between 0 and {@code baseDelay * 2^retry}, capped at {@link #maxDelay}). A
+ * {@link CircuitBreaker} stops calling the primary source while it keeps failing. Whenever the
+ * primary source can't provide a puzzle, the fallback source (e.g. a local generator) does.
+ *
+ * {@link #getSudokuPuzzleAsync} and {@link #getPuzzleAsync} chain the asynchronous requests of both
+ * sources, so no thread waits on a request or sleeps through a backoff, and cancelling the returned
+ * future cancels the request in flight.
+ *
+ * Attempts, failures, and fallbacks are counted for monitoring.
+ *
+ * @author Corey Caskey
+ * @version 1.0.0
+ */
+public class ResilientPuzzleSource implements PuzzleSource
+{
+  private static final Logger LOGGER = Logger.getLogger(Logger.GLOBAL_LOGGER_NAME);
+  private static final int DEFAULT_MAX_ATTEMPTS = 3;
+  private static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(200);
+  private static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(2);
+  private static final int DEFAULT_FAILURE_THRESHOLD = 5;
+  private static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30);
+
+  private final PuzzleSource primarySource;
+  private final PuzzleSource fallbackSource;
+  private final int maxAttempts;
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  private final CircuitBreaker circuitBreaker;
+
+  private final AtomicLong attempts = new AtomicLong();
+  private final AtomicLong failures = new AtomicLong();
+  private final AtomicLong fallbacks = new AtomicLong();
+
+  /**
+   * Initializes a source with three attempts (200ms base delay, 2s maximum delay) and a circuit that
+   * opens for 30 seconds after five consecutive failures.
+   *
+   * @param primarySource  : preferred provider of new sudoku puzzles
+   * @param fallbackSource : provider used when the primary source fails
+   */
+  public ResilientPuzzleSource(PuzzleSource primarySource, PuzzleSource fallbackSource)
+  {
+    this(primarySource, fallbackSource, DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY, DEFAULT_MAX_DELAY,
+        new CircuitBreaker(DEFAULT_FAILURE_THRESHOLD, DEFAULT_OPEN_DURATION));
+  }
+
+  /**
+   * Initializes the sources, the retry policy, and {@link #circuitBreaker}.
+   *
+   * @throws IllegalArgumentException
+   * @param primarySource  : preferred provider of new sudoku puzzles
+   * @param fallbackSource : provider used when the primary source fails
+   * @param maxAttempts    : maximum requests to the primary source per puzzle
+   * @param baseDelay      : backoff before the first retry (doubled for every retry)
+   * @param maxDelay       : maximum backoff before a retry
+   * @param circuitBreaker : circuit breaker that guards the primary source
+   */
+  public ResilientPuzzleSource(PuzzleSource primarySource, PuzzleSource fallbackSource, int maxAttempts,
+      Duration baseDelay, Duration maxDelay, CircuitBreaker circuitBreaker) throws IllegalArgumentException
+  {
+    if (primarySource.getBlockSize() != fallbackSource.getBlockSize())
+    {
+      throw new IllegalArgumentException("Primary and fallback sources must provide the same block size");
+    }
+
+    if (maxAttempts < 1)
+    {
+      throw new IllegalArgumentException(String.format("Unsupported maximum attempts %d", maxAttempts));
+    }
+
+    this.primarySource = primarySource;
+    this.fallbackSource = fallbackSource;
+    this.maxAttempts = maxAttempts;
+    this.baseDelay = baseDelay;
+    this.maxDelay = maxDelay;
+    this.circuitBreaker = circuitBreaker;
+  }
+
+  /**
+   * Retrieves a sudoku puzzle with the corresponding difficulty from the primary source, or from the
+   * fallback source if the primary source keeps failing or its circuit is open.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return List<Square> : list of initial sudoku cells
+   * @throws SudokuPuzzleException
+   */
+  @Override
+  public List<Square> getSudokuPuzzle(int difficultyId) throws SudokuPuzzleException
+  {
+    List<Square> initialCells = this.requestPrimaryPuzzle(difficultyId);
+
+    if (initialCells != null)
+    {
+      return initialCells;
+    }
+
+    this.fallbacks.incrementAndGet();
+
+    return this.fallbackSource.getSudokuPuzzle(difficultyId);
+  }
+
+  /**
+   * Retrieves a sudoku puzzle like {@link #getSudokuPuzzle} without blocking the caller. Retries are
+   * scheduled after their backoff instead of sleeping. Cancelling the returned future (or letting it
+   * time out) cancels the request in flight and any retry that hasn't started.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return CompletableFuture<List<Square>> : list of initial sudoku cells (completes exceptionally
+   *         with a {@link SudokuPuzzleException})
+   */
+  @Override
+  public CompletableFuture<List<Square>> getSudokuPuzzleAsync(int difficultyId)
+  {
+    return new AsyncRequest<List<Square>>(difficultyId, CompletableFuture::completedFuture,
+        () -> this.fallbackSource.getSudokuPuzzleAsync(difficultyId)).start();
+  }
+
+  /**
+   * Retrieves a checked and solved sudoku puzzle from the primary source, or from the fallback source
+   * (which may skip the solver, e.g. a {@link PuzzleBankSource}) if the primary source keeps failing
+   * or its circuit is open.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return SudokuPuzzle : checked and solved sudoku puzzle
+   * @throws SudokuPuzzleException
+   */
+  @Override
+  public SudokuPuzzle getPuzzle(int difficultyId) throws SudokuPuzzleException
+  {
+    List<Square> initialCells = this.requestPrimaryPuzzle(difficultyId);
+
+    if (initialCells != null)
+    {
+      return new SudokuPuzzle(this.getBlockSize(), initialCells);
+    }
+
+    this.fallbacks.incrementAndGet();
+
+    return this.fallbackSource.getPuzzle(difficultyId);
+  }
+
+  /**
+   * Retrieves a checked and solved sudoku puzzle like {@link #getPuzzle} without blocking the caller.
+   * Puzzles from the primary source are checked and solved on the executor, while the fallback source
+   * provides its own (e.g. a {@link PuzzleBankSource} skips the solver). Cancelling the returned future
+   * cancels the request in flight.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @param executor     : executor that checks and solves the puzzle
+   * @return CompletableFuture<SudokuPuzzle> : checked and solved sudoku puzzle (completes exceptionally
+   *         with a {@link SudokuPuzzleException})
+   */
+  @Override
+  public CompletableFuture<SudokuPuzzle> getPuzzleAsync(int difficultyId, Executor executor)
+  {
+    return new AsyncRequest<SudokuPuzzle>(difficultyId,
+        initialCells -> CompletableFuture.supplyAsync(() -> new SudokuPuzzle(this.getBlockSize(), initialCells),
+            executor),
+        () -> this.fallbackSource.getPuzzleAsync(difficultyId, executor)).start();
+  }
+
+  /**
+   * Retrieves the block size of both sources.
+   *
+   * @return int : block size
+   */
+  @Override
+  public int getBlockSize()
+  {
+    return this.primarySource.getBlockSize();
+  }
+
+  /**
+   * Warms up both sources.
+   */
+  @Override
+  public void warmUp()
+  {
+    this.primarySource.warmUp();
+    this.fallbackSource.warmUp();
+  }
+
+  /** Private Helper Methods **/
+
+  /**
+   * Requests a puzzle from the primary source, retrying with backoff while the circuit allows it. An
+   * interrupted request stops the retries without counting as a failure.
+   *
+   * @param difficultyId : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+   * @return List<Square> : list of initial sudoku cells; null —> primary source failed
+   * @throws SudokuPuzzleException
+   */
+  private List<Square> requestPrimaryPuzzle(int difficultyId) throws SudokuPuzzleException
+  {
+    for (var attempt = 0; attempt < this.maxAttempts && this.circuitBreaker.allowRequest(); attempt++)
+    {
+      try
+      {
+        if (attempt > 0)
+        {
+          this.backOff(attempt);
+        }
+
+        this.attempts.incrementAndGet();
+
+        List<Square> initialCells = this.primarySource.getSudokuPuzzle(difficultyId);
+
+        this.circuitBreaker.recordSuccess();
+
+        return initialCells;
+      } catch (SudokuPuzzleException | RuntimeException e)
+      {
+        if (Thread.currentThread().isInterrupted())
+        {
+          this.circuitBreaker.releaseTrial(); // cancelled, not an endpoint failure
+          throw new SudokuPuzzleException("Puzzle request interrupted");
+        }
+
+        this.failures.incrementAndGet();
+        this.circuitBreaker.recordFailure();
+
+        LOGGER.log(Level.WARNING, "Puzzle request {0} failed: {1}", new Object[] { attempt + 1, e.getMessage() });
+      } catch (Error e)
+      {
+        this.failures.incrementAndGet();
+        this.circuitBreaker.recordFailure(); // otherwise a half open circuit keeps its trial forever
+
+        throw e;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Sleeps for the backoff of the retry.
+   *
+   * @param retry : retry number (1 —> first retry)
+   * @throws SudokuPuzzleException
+   */
+  private void backOff(int retry) throws SudokuPuzzleException
+  {
+    try
+    {
+      Thread.sleep(this.getBackOffDelay(retry));
+    } catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SudokuPuzzleException("Puzzle request interrupted");
+    }
+  }
+
+  /**
+   * Retrieves a random delay between 0 and the exponential backoff of the retry (full jitter).
+   *
+   * @param retry : retry number (1 —> first retry)
+   * @return long : delay in milliseconds
+   */
+  private long getBackOffDelay(int retry)
+  {
+    long exponentialDelay = this.baseDelay.toMillis() << Math.min(retry - 1, 20);
+    long cappedDelay = Math.min(exponentialDelay, this.maxDelay.toMillis());
+
+    return ThreadLocalRandom.current().nextLong(cappedDelay + 1);
+  }
+
+  /**
+   * Retrieves the cause of a failure wrapped by a dependent future.
+   *
+   * @param error : future failure
+   * @return Throwable : failure cause
+   */
+  private static Throwable unwrap(Throwable error)
+  {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+
+  /** Getters and Setters **/
+
+  /**
+   * Retrieves the number of requests sent to the primary source.
+   *
+   * @return long : attempts
+   */
+  public long getAttemptCount()
+  {
+    return this.attempts.get();
+  }
+
+  /**
+   * Retrieves the number of failed requests to the primary source.
+   *
+   * @return long : failures
+   */
+  public long getFailureCount()
+  {
+    return this.failures.get();
+  }
+
+  /**
+   * Retrieves the number of puzzles provided by the fallback source.
+   *
+   * @return long : fallbacks
+   */
+  public long getFallbackCount()
+  {
+    return this.fallbacks.get();
+  }
+
+  /**
+   * Retrieves {@link #circuitBreaker}.
+   *
+   * @return CircuitBreaker : circuit breaker that guards the primary source
+   */
+  public CircuitBreaker getCircuitBreaker()
+  {
+    return this.circuitBreaker;
+  }
+
+  /**
+   * Asynchronous puzzle request: attempts on the primary source with scheduled retries, then the
+   * fallback source. Completing the result future early (e.g. cancelling it) cancels the request in
+   * flight and stops any retry that hasn't started.
+   *
+   * @param <T> : type of the requested puzzle
+   */
+  private final class AsyncRequest<T>
+  {
+    private final int difficultyId;
+    private final Function<List<Square>, CompletableFuture<T>> primaryResult;
+    private final Supplier<CompletableFuture<T>> fallbackRequest;
+    private final CompletableFuture<T> resultFuture;
+    private final AtomicReference<CompletableFuture<?>> requestFuture;
+
+    /**
+     * Initializes the request.
+     *
+     * @param difficultyId    : unique identifier for the puzzle difficulty (e.g. Easy —> 1)
+     * @param primaryResult   : builds the requested puzzle from the cells of the primary source
+     * @param fallbackRequest : requests the puzzle from the fallback source
+     */
+    private AsyncRequest(int difficultyId, Function<List<Square>, CompletableFuture<T>> primaryResult,
+        Supplier<CompletableFuture<T>> fallbackRequest)
+    {
+      this.difficultyId = difficultyId;
+      this.primaryResult = primaryResult;
+      this.fallbackRequest = fallbackRequest;
+      this.resultFuture = new CompletableFuture<>();
+      this.requestFuture = new AtomicReference<>();
+    }
+
+    /**
+     * Sends the first attempt.
+     *
+     * @return CompletableFuture<T> : requested puzzle (completes exceptionally with a
+     *         {@link SudokuPuzzleException})
+     */
+    private CompletableFuture<T> start()
+    {
+      this.resultFuture.whenComplete((result, error) ->
+      {
+        CompletableFuture<?> request = this.requestFuture.get();
+
+        if (error != null && request != null)
+        {
+          request.cancel(true); // cancelled or timed out
+        }
+      });
+
+      this.requestPrimary(0);
+
+      return this.resultFuture;
+    }
+
+    /**
+     * Sends a request to the primary source while the circuit allows it, or to the fallback source
+     * once every attempt failed.
+     *
+     * @param attempt : attempt number (0 —> first attempt)
+     */
+    private void requestPrimary(int attempt)
+    {
+      if (this.resultFuture.isDone())
+      {
+        return;
+      }
+
+      if (attempt >= maxAttempts || !circuitBreaker.allowRequest())
+      {
+        fallbacks.incrementAndGet();
+
+        this.send(this.fallbackRequest).whenComplete(this::complete);
+        return;
+      }
+
+      attempts.incrementAndGet();
+
+      this.send(() -> primarySource.getSudokuPuzzleAsync(this.difficultyId)).whenComplete((initialCells, error) ->
+      {
+        if (error == null)
+        {
+          circuitBreaker.recordSuccess();
+
+          this.send(() -> this.primaryResult.apply(initialCells)).whenComplete(this::complete);
+        } else if (this.resultFuture.isDone())
+        {
+          circuitBreaker.releaseTrial(); // cancelled, not an endpoint failure
+        } else
+        {
+          failures.incrementAndGet();
+          circuitBreaker.recordFailure();
+
+          LOGGER.log(Level.WARNING, "Puzzle request {0} failed: {1}",
+              new Object[] { attempt + 1, ResilientPuzzleSource.unwrap(error).getMessage() });
+
+          this.retryPrimary(attempt + 1);
+        }
+      });
+    }
+
+    /**
+     * Schedules the next attempt after its backoff, or falls back right away once every attempt
+     * failed.
+     *
+     * @param attempt : attempt number (1 —> first retry)
+     */
+    private void retryPrimary(int attempt)
+    {
+      if (attempt >= maxAttempts)
+      {
+        this.requestPrimary(attempt);
+        return;
+      }
+
+      long backOffDelay = ResilientPuzzleSource.this.getBackOffDelay(attempt);
+
+      CompletableFuture.runAsync(() -> this.requestPrimary(attempt),
+          CompletableFuture.delayedExecutor(backOffDelay, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Sends an asynchronous request and stores it as the request in flight, cancelling it right away if
+     * the result future is already done.
+     *
+     * @param <R>           : type of the request result
+     * @param requestSender : sends the asynchronous request
+     * @return CompletableFuture<R> : the request (failed if it couldn't be sent)
+     */
+    private <R> CompletableFuture<R> send(Supplier<CompletableFuture<R>> requestSender)
+    {
+      CompletableFuture<R> request;
+
+      try
+      {
+        request = requestSender.get();
+      } catch (RuntimeException e)
+      {
+        request = CompletableFuture.failedFuture(e);
+      }
+
+      this.requestFuture.set(request);
+
+      if (this.resultFuture.isDone())
+      {
+        request.cancel(true); // cancelled while the request was being sent
+      }
+
+      return request;
+    }
+
+    /**
+     * Completes the result future with the outcome of the last request.
+     *
+     * @param result : requested puzzle
+     * @param error  : request failure; null —> succeeded
+     */
+    private void complete(T result, Throwable error)
+    {
+      if (error != null)
+      {
+        this.resultFuture.completeExceptionally(ResilientPuzzleSource.unwrap(error));
+      } else
+      {
+        this.resultFuture.complete(result);
+      }
+    }
+  }
+}
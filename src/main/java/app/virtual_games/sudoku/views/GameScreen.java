@@ -1,11 +1,14 @@
 package app.virtual_games.sudoku.views;
 
 import app.virtual_games.sudoku.controllers.GameController;
+import app.virtual_games.sudoku.handlers.ConflictsButtonHandler;
 import app.virtual_games.sudoku.handlers.GameScreenDifficultyDropdownHandler;
 import app.virtual_games.sudoku.handlers.HintButtonHandler;
 import app.virtual_games.sudoku.handlers.NewPuzzleButtonHandler;
+import app.virtual_games.sudoku.handlers.RedoButtonHandler;
 import app.virtual_games.sudoku.handlers.RestartButtonHandler;
 import app.virtual_games.sudoku.handlers.ReturnToMainMenuDialogButtonHandler;
+import app.virtual_games.sudoku.handlers.UndoButtonHandler;
 import app.virtual_games.sudoku.handlers.WritingToolClickHandler;
 import app.virtual_games.sudoku.models.NumberButton;
 import app.virtual_games.sudoku.models.Sudoku;
@@ -14,7 +17,6 @@ import app.virtual_games.sudoku.models.SudokuCell;
 import app.virtual_games.sudoku.models.TimerButton;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -38,8 +40,6 @@ import javafx.scene.layout.VBox;
  */
 public class GameScreen extends StackPane
 {
-  private static final int PUZZLE_SIZE = 9;
-
   private Sudoku currentSudoku;
 
   private BorderPane gamePane;
@@ -47,6 +47,7 @@ public class GameScreen extends StackPane
   private Button timerButton;
   private Label timerLabel;
   private Label timePenaltyLabel;
+  private Button conflictsButton;
 
   private ArrayList<Button> writingToolButtons;
   private ArrayList<Button> helperButtons;
@@ -126,7 +127,7 @@ public class GameScreen extends StackPane
    */
   private ArrayList<NumberButton> loadGameScreenNumberButtons()
   {
-    return IntStream.range(0, PUZZLE_SIZE).mapToObj(sudokuVal -> new NumberButton(sudokuVal + 1))
+    return IntStream.range(0, this.currentSudoku.getPuzzleSize()).mapToObj(sudokuVal -> new NumberButton(sudokuVal + 1))
         .collect(Collectors.toCollection(ArrayList::new));
   }
 
@@ -323,10 +324,7 @@ public class GameScreen extends StackPane
    */
   private void disableGameScreenNumberButton(NumberButton numberButton)
   {
-    var valueOccurrences = (HashMap<Integer, Integer>) this.currentSudoku.getValueOccurrences();
-
-    if (valueOccurrences.containsKey(numberButton.getValue())
-        && valueOccurrences.get(numberButton.getValue()) == PUZZLE_SIZE)
+    if (this.currentSudoku.getValueOccurrences().isComplete(numberButton.getValue()))
     {
       numberButton.setDisable(true);
 
@@ -417,7 +415,8 @@ public class GameScreen extends StackPane
   /**
    * Loads the Game Screen right pane container with the following UI element(s): — Hint Button —>
    * {@link #loadHintButton()} — Restart Button —> {@link #loadRestartButton()} — New Puzzle Button —>
-   * {@link #loadNewPuzzleButton()}
+   * {@link #loadNewPuzzleButton()} — Undo and Redo Buttons —> {@link #loadMoveHistoryButtonContainer()}
+   * — Conflicts Button —> {@link #loadConflictsButton()}
    *
    * @throws IllegalArgumentException
    * @return VBox : Game Screen right pane container
@@ -429,13 +428,17 @@ public class GameScreen extends StackPane
     var hintButton = this.loadHintButton();
     var restartButton = this.loadRestartButton();
     var newPuzzleButton = this.loadNewPuzzleButton();
+    var moveHistoryButtonContainer = this.loadMoveHistoryButtonContainer();
+    this.conflictsButton = this.loadConflictsButton();
 
     this.helperButtons.add(hintButton);
     this.helperButtons.add(restartButton);
     this.helperButtons.add(newPuzzleButton);
+    this.helperButtons.add(this.conflictsButton);
 
     gamePaneRightPaneContainer.getStyleClass().add("right-pane-container");
-    gamePaneRightPaneContainer.getChildren().addAll(hintButton, restartButton, newPuzzleButton);
+    gamePaneRightPaneContainer.getChildren().addAll(hintButton, restartButton, newPuzzleButton,
+        moveHistoryButtonContainer, this.conflictsButton);
 
     return gamePaneRightPaneContainer;
   }
@@ -494,6 +497,47 @@ public class GameScreen extends StackPane
     return newPuzzleButton;
   }
 
+  /**
+   * Loads the undo button with the {@link UndoButtonHandler} and the redo button with the
+   * {@link RedoButtonHandler} side by side.
+   *
+   * @return HBox : undo and redo button container
+   */
+  private HBox loadMoveHistoryButtonContainer()
+  {
+    var undoButton = new Button("Undo");
+    var redoButton = new Button("Redo");
+    var moveHistoryButtonContainer = new HBox();
+
+    undoButton.getStyleClass().addAll("game-button", "move-history-button");
+    undoButton.setOnAction(new UndoButtonHandler());
+    redoButton.getStyleClass().addAll("game-button", "move-history-button");
+    redoButton.setOnAction(new RedoButtonHandler());
+
+    this.helperButtons.add(undoButton);
+    this.helperButtons.add(redoButton);
+
+    moveHistoryButtonContainer.getStyleClass().add("move-history-button-container");
+    moveHistoryButtonContainer.getChildren().addAll(undoButton, redoButton);
+
+    return moveHistoryButtonContainer;
+  }
+
+  /**
+   * Loads the conflicts button with the {@link ConflictsButtonHandler}.
+   *
+   * @return Button : conflicts button
+   */
+  private Button loadConflictsButton()
+  {
+    var showConflictsButton = new Button("Conflicts");
+
+    showConflictsButton.getStyleClass().addAll("game-button", "conflicts-button");
+    showConflictsButton.setOnAction(new ConflictsButtonHandler());
+
+    return showConflictsButton;
+  }
+
   /**
    * Loads the Game Screen center pane container with the sudoku puzzle grid.
    *
@@ -627,6 +671,16 @@ public class GameScreen extends StackPane
     return this.writingToolButtons;
   }
 
+  /**
+   * Retrieves {@link #conflictsButton}.
+   *
+   * @return Button : conflicts button
+   */
+  public Button getConflictsButton()
+  {
+    return this.conflictsButton;
+  }
+
   /**
    * Retrieves {@link #helperButtons}.
    *
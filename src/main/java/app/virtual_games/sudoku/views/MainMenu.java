@@ -1,13 +1,17 @@
 package app.virtual_games.sudoku.views;
 
 import app.virtual_games.sudoku.controllers.GameController;
+import app.virtual_games.sudoku.handlers.CancelLoadingButtonHandler;
+import app.virtual_games.sudoku.handlers.ContinueButtonHandler;
 import app.virtual_games.sudoku.handlers.ExitApplicationDialogButtonHandler;
 import app.virtual_games.sudoku.handlers.InfoDialogButtonHandler;
 import app.virtual_games.sudoku.handlers.MainMenuDifficultyDropdownHandler;
 import app.virtual_games.sudoku.handlers.StartButtonHandler;
+import app.virtual_games.sudoku.sources.LoadingStage;
 import javafx.scene.control.Button;
 import javafx.scene.control.ComboBox;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -20,6 +24,13 @@ import javafx.scene.layout.VBox;
  */
 public class MainMenu extends StackPane
 {
+  private ComboBox<String> difficultyDropdown;
+  private Button startButton;
+  private Button continueButton;
+  private VBox loadingContainer;
+  private ProgressIndicator loadingIndicator;
+  private Label loadingStageLabel;
+
   /**
    * Initializes main menu screen.
    */
@@ -95,8 +106,9 @@ public class MainMenu extends StackPane
   }
 
   /**
-   * Builds inner container with {@link #buildTitle}, {@link #buildDifficultyContainer}, and
-   * {@link #buildStartButton}.
+   * Builds inner container with {@link #buildTitle}, {@link #buildDifficultyContainer},
+   * {@link #buildStartButton}, {@link #buildContinueButton} (if a saved game exists), and
+   * {@link #buildLoadingContainer}.
    *
    * @return VBox : inner container
    */
@@ -109,6 +121,13 @@ public class MainMenu extends StackPane
     innerContainer.getChildren().add(this.buildDifficultyContainer());
     innerContainer.getChildren().add(this.buildStartButton());
 
+    if (GameController.hasSavedGame())
+    {
+      innerContainer.getChildren().add(this.buildContinueButton());
+    }
+
+    innerContainer.getChildren().add(this.buildLoadingContainer());
+
     return innerContainer;
   }
 
@@ -164,12 +183,12 @@ public class MainMenu extends StackPane
    */
   private ComboBox<String> buildDifficultyDropdown()
   {
-    var dropdown = GameController.getPuzzleDifficultyDropdown();
+    this.difficultyDropdown = GameController.getPuzzleDifficultyDropdown();
 
-    dropdown.getSelectionModel().select(GameController.getCurrentDifficultyLabel());
-    dropdown.setOnAction(new MainMenuDifficultyDropdownHandler());
+    this.difficultyDropdown.getSelectionModel().select(GameController.getCurrentDifficultyLabel());
+    this.difficultyDropdown.setOnAction(new MainMenuDifficultyDropdownHandler());
 
-    return dropdown;
+    return this.difficultyDropdown;
   }
 
   /**
@@ -179,12 +198,106 @@ public class MainMenu extends StackPane
    */
   private Button buildStartButton()
   {
-    var startButton = new Button("Start");
+    this.startButton = new Button("Start");
+
+    this.startButton.getStyleClass().add("start-button");
+    this.startButton.setOnAction(new StartButtonHandler());
+
+    return this.startButton;
+  }
+
+  /**
+   * Builds continue button, which resumes the saved game.
+   *
+   * @return Button : continue button
+   */
+  private Button buildContinueButton()
+  {
+    this.continueButton = new Button("Continue");
+
+    this.continueButton.getStyleClass().add("continue-button");
+    this.continueButton.setOnAction(new ContinueButtonHandler());
+
+    return this.continueButton;
+  }
+
+  /**
+   * Builds the loading container shown while a puzzle is being loaded (hidden by default) with
+   * {@link #buildLoadingIndicator}, {@link #buildLoadingStageLabel}, and
+   * {@link #buildCancelLoadingButton}.
+   *
+   * @return VBox : loading container
+   */
+  private VBox buildLoadingContainer()
+  {
+    this.loadingContainer = new VBox();
+
+    this.loadingContainer.getStyleClass().add("loading-container");
+    this.loadingContainer.getChildren().add(this.buildLoadingIndicator());
+    this.loadingContainer.getChildren().add(this.buildLoadingStageLabel());
+    this.loadingContainer.getChildren().add(this.buildCancelLoadingButton());
+    this.loadingContainer.setVisible(false);
+
+    return this.loadingContainer;
+  }
+
+  /**
+   * Builds the loading indicator.
+   *
+   * @return ProgressIndicator : loading indicator
+   */
+  private ProgressIndicator buildLoadingIndicator()
+  {
+    this.loadingIndicator = new ProgressIndicator();
+
+    this.loadingIndicator.getStyleClass().add("loading-indicator");
+
+    return this.loadingIndicator;
+  }
+
+  /**
+   * Builds the label of the current loading stage.
+   *
+   * @return Label : loading stage label
+   */
+  private Label buildLoadingStageLabel()
+  {
+    this.loadingStageLabel = new Label(LoadingStage.FETCHING.getLabel());
+
+    this.loadingStageLabel.getStyleClass().add("loading-stage-label");
+
+    return this.loadingStageLabel;
+  }
 
-    startButton.getStyleClass().add("start-button");
-    startButton.setOnAction(new StartButtonHandler());
+  /**
+   * Builds cancel loading button.
+   *
+   * @return Button : cancel loading button
+   */
+  private Button buildCancelLoadingButton()
+  {
+    var cancelLoadingButton = new Button("Cancel");
+
+    cancelLoadingButton.getStyleClass().add("cancel-loading-button");
+    cancelLoadingButton.setOnAction(new CancelLoadingButtonHandler());
+
+    return cancelLoadingButton;
+  }
+
+  /**
+   * Disables or enables the start button, the continue button (if any), and the difficulty dropdown.
+   *
+   * @param isDisabled : true —> disable; false —> enable
+   */
+  private void setMenuDisabled(boolean isDisabled)
+  {
+    this.startButton.setDisable(isDisabled);
+    this.difficultyDropdown.setDisable(isDisabled);
 
-    return startButton;
+    if (this.continueButton != null)
+    {
+      this.continueButton.setDisable(isDisabled);
+    }
   }
 
   /** Public Helper Methods **/
@@ -213,6 +326,37 @@ public class MainMenu extends StackPane
     this.getChildren().add(new ErrorDialog());
   }
 
+  /**
+   * Shows {@link #loadingContainer} and disables the start button, the continue button, and the
+   * difficulty dropdown.
+   */
+  public void showLoadingIndicator()
+  {
+    this.loadingStageLabel.setText(LoadingStage.FETCHING.getLabel());
+    this.loadingContainer.setVisible(true);
+    this.setMenuDisabled(true);
+  }
+
+  /**
+   * Updates {@link #loadingStageLabel} with the current loading stage.
+   *
+   * @param loadingStage : loading stage
+   */
+  public void showLoadingStage(LoadingStage loadingStage)
+  {
+    this.loadingStageLabel.setText(loadingStage.getLabel());
+  }
+
+  /**
+   * Hides {@link #loadingContainer} and enables the start button, the continue button, and the
+   * difficulty dropdown.
+   */
+  public void hideLoadingIndicator()
+  {
+    this.loadingContainer.setVisible(false);
+    this.setMenuDisabled(false);
+  }
+
   /**
    * Removes dialog from screen.
    */